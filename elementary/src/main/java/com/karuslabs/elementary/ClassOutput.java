@@ -0,0 +1,76 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2026 Karus Labs.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.karuslabs.elementary;
+
+import java.io.*;
+import java.util.*;
+import javax.tools.*;
+import javax.tools.JavaFileObject.Kind;
+
+/**
+ * A {@code JavaFileManager} that retains the bytecode of all classes written to
+ * the class output in memory, in addition to writing them to the underlying 
+ * {@code JavaFileManager}.
+ */
+class ClassOutput extends ForwardingJavaFileManager<JavaFileManager> {
+    
+    /**
+     * The bytecode of the compiled classes, keyed by binary name.
+     */
+    final Map<String, byte[]> classes = new HashMap<>();
+    
+    /**
+     * Creates a {@code ClassOutput} that forwards to the given {@code JavaFileManager}.
+     * 
+     * @param manager the underlying {@code JavaFileManager}
+     */
+    ClassOutput(JavaFileManager manager) {
+        super(manager);
+    }
+    
+    @Override
+    public JavaFileObject getJavaFileForOutput(Location location, String name, Kind kind, FileObject sibling) throws IOException {
+        var file = super.getJavaFileForOutput(location, name, kind, sibling);
+        if (location != StandardLocation.CLASS_OUTPUT || kind != Kind.CLASS) {
+            return file;
+        }
+        
+        return new ForwardingJavaFileObject<>(file) {
+            @Override
+            public OutputStream openOutputStream() throws IOException {
+                var stream = super.openOutputStream();
+                return new ByteArrayOutputStream() {
+                    @Override
+                    public void close() throws IOException {
+                        try (stream) {
+                            writeTo(stream);
+                        }
+                        classes.put(name, toByteArray());
+                    }
+                };
+            }
+        };
+    }
+    
+}
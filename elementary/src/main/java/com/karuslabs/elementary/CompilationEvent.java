@@ -0,0 +1,52 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2026 Karus Labs.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.karuslabs.elementary;
+
+import jdk.jfr.*;
+
+/**
+ * A JDK Flight Recorder event that spans an invocation of {@link Compiler#compile(java.util.List)}.
+ */
+@Name("com.karuslabs.elementary.Compilation")
+@Label("Compilation")
+@Category("Elementary")
+@Description("Compilation of Java source files")
+class CompilationEvent extends Event {
+    
+    @Label("Sources")
+    int sources;
+    
+    @Label("Options")
+    String options;
+    
+    @Label("Processors")
+    int processors;
+    
+    @Label("Success")
+    boolean success;
+    
+    @Label("Errors")
+    int errors;
+    
+}
@@ -30,6 +30,7 @@ import java.util.*;
 import javax.annotation.processing.Processor;
 import javax.tools.*;
 
+import com.sun.source.util.JavacTask;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
 import static java.nio.charset.StandardCharsets.UTF_8;
@@ -98,16 +99,14 @@ public class Compiler {
      * @return the results of this compilation
      */
     public Results compile(List<JavaFileObject> files) {
+        var event = new CompilationEvent();
+        event.begin();
+        
         var diagnostics = new Diagnostics();
-        var manager = compiler.getStandardFileManager(diagnostics, Locale.getDefault(), UTF_8);
-
-        setLocation(manager, StandardLocation.CLASS_OUTPUT, List.of(classOutput));
-        setLocation(manager, StandardLocation.SOURCE_OUTPUT, List.of(sourceOutput));
-        if (classpath != null) {
-            setLocation(manager, StandardLocation.CLASS_PATH, classpath);
-        }
+        var manager = manager(diagnostics);
+        var output = new ClassOutput(manager);
         
-        var task = compiler.getTask(null, manager, diagnostics, options, null, files);
+        var task = compiler.getTask(null, output, diagnostics, options, null, files);
         task.setProcessors(processors);
 
         var success = task.call();
@@ -128,7 +127,52 @@ public class Compiler {
             throw new UncheckedIOException(e);
         }
 
-        return new Results(files, generatedSources, diagnostics, success);
+        event.end();
+        if (event.shouldCommit()) {
+            event.sources = files.size();
+            event.options = String.join(" ", options);
+            event.processors = processors.size();
+            event.success = success;
+            event.errors = diagnostics.errors.size();
+            event.commit();
+        }
+
+        return new Results(files, generatedSources, output.classes, diagnostics, success);
+    }
+    
+    /**
+     * Creates a {@code JavacTask} for the given Java source files that reports
+     * diagnostics to the given {@code Diagnostics}. Unlike {@link #compile(List)},
+     * the task is not executed and may be driven in stages, i.e. {@code parse()}
+     * and {@code analyze()}, on the calling thread.
+     * 
+     * @param files the Java source files
+     * @param diagnostics the diagnostics
+     * @return a {@code JavacTask}
+     */
+    public JavacTask task(List<JavaFileObject> files, Diagnostics diagnostics) {
+        var task = (JavacTask) compiler.getTask(null, manager(diagnostics), diagnostics, options, null, files);
+        task.setProcessors(processors);
+        
+        return task;
+    }
+    
+    /**
+     * Creates a file manager with the locations of this {@code Compiler}.
+     * 
+     * @param diagnostics the diagnostics
+     * @return a file manager
+     */
+    StandardJavaFileManager manager(Diagnostics diagnostics) {
+        var manager = compiler.getStandardFileManager(diagnostics, Locale.getDefault(), UTF_8);
+        
+        setLocation(manager, StandardLocation.CLASS_OUTPUT, List.of(classOutput));
+        setLocation(manager, StandardLocation.SOURCE_OUTPUT, List.of(sourceOutput));
+        if (classpath != null) {
+            setLocation(manager, StandardLocation.CLASS_PATH, classpath);
+        }
+        
+        return manager;
     }
     
     /**
@@ -287,6 +331,25 @@ public class Compiler {
     }
     
     
+    /**
+     * Returns the number of entries in the compilation classpath.
+     * 
+     * @return the number of entries in the compilation classpath
+     */
+    public int classpathSize() {
+        return classpath == null ? 0 : classpath.size();
+    }
+    
+    /**
+     * Returns the number of annotation processors added to this {@code Compiler}.
+     * 
+     * @return the number of annotation processors
+     */
+    public int processorCount() {
+        return processors.size();
+    }
+    
+    
     Set<File> classpath() {
         if (classpath == null) {
             classpath = new HashSet<>();
@@ -27,7 +27,9 @@ import java.util.*;
 import javax.tools.*;
 
 /**
- * The diagnostic messages of a compilation's results.
+ * The diagnostic messages of a compilation's results. Diagnostics are retained 
+ * as {@link Snapshot}s so that the results of a compilation do not prevent its 
+ * context from being garbage collected.
  */
 public final class Diagnostics implements DiagnosticListener<JavaFileObject> {
     
@@ -49,12 +51,13 @@ public final class Diagnostics implements DiagnosticListener<JavaFileObject> {
     public final List<Diagnostic<? extends JavaFileObject>> notes = new ArrayList<>();
     
     /**
-     * Adds the given diagnostic to this {@code Diagnostics}.
+     * Adds a snapshot of the given diagnostic to this {@code Diagnostics}.
      * 
-     * @param diagnostic the diagnostic
+     * @param original the diagnostic
      */
     @Override
-    public void report(Diagnostic<? extends JavaFileObject> diagnostic) {
+    public void report(Diagnostic<? extends JavaFileObject> original) {
+        var diagnostic = Snapshot.of(original);
         all.add(diagnostic);
         switch (diagnostic.getKind()) {
             case ERROR:
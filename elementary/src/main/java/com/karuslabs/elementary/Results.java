@@ -26,6 +26,8 @@ package com.karuslabs.elementary;
 import java.util.*;
 import javax.tools.*;
 
+import org.checkerframework.checker.nullness.qual.Nullable;
+
 /**
  * The results of a compilation.
  */
@@ -39,6 +41,10 @@ public final class Results {
      * The generated source files.
      */
     public final List<JavaFileObject> generatedSources;
+    /**
+     * The bytecode of the compiled classes, keyed by binary name.
+     */
+    public final Map<String, byte[]> classes;
     /**
      * The diagnostic messages.
      */
@@ -59,6 +65,7 @@ public final class Results {
      * Whether compilation was successful.
      */
     public final boolean success;
+    private volatile @Nullable ClassLoader loader;
     
     /**
      * Creates a {@code Results} with the given arguments.
@@ -69,8 +76,22 @@ public final class Results {
      * @param success whether compilation was successful
      */
     public Results(List<JavaFileObject> sources, List<JavaFileObject> generatedSources, Diagnostics diagnostics, boolean success) {
+        this(sources, generatedSources, Map.of(), diagnostics, success);
+    }
+    
+    /**
+     * Creates a {@code Results} with the given arguments.
+     * 
+     * @param sources the sources which were compiled
+     * @param generatedSources the generated sources
+     * @param classes the bytecode of the compiled classes, keyed by binary name
+     * @param diagnostics the diagnostic messages
+     * @param success whether compilation was successful
+     */
+    public Results(List<JavaFileObject> sources, List<JavaFileObject> generatedSources, Map<String, byte[]> classes, Diagnostics diagnostics, boolean success) {
         this.sources = sources;
         this.generatedSources = generatedSources;
+        this.classes = Collections.unmodifiableMap(classes);
         this.diagnostics = diagnostics.all;
         errors = diagnostics.errors;
         warnings = diagnostics.warnings;
@@ -78,6 +99,39 @@ public final class Results {
         this.success = success;
     }
     
+    /**
+     * Returns a {@code ClassLoader} that defines the compiled classes directly from 
+     * their bytecode in memory. Classes that were not compiled are delegated to the
+     * {@code ClassLoader} of this class.
+     * 
+     * @return a {@code ClassLoader} for the compiled classes
+     */
+    public ClassLoader classLoader() {
+        var loader = this.loader;
+        if (loader == null) {
+            synchronized (this) {
+                loader = this.loader;
+                if (loader == null) {
+                    this.loader = loader = classLoader(Results.class.getClassLoader());
+                }
+            }
+        }
+        
+        return loader;
+    }
+    
+    /**
+     * Returns a new {@code ClassLoader} that defines the compiled classes directly 
+     * from their bytecode in memory. Classes that were not compiled are delegated
+     * to the given parent.
+     * 
+     * @param parent the parent {@code ClassLoader}
+     * @return a {@code ClassLoader} for the compiled classes
+     */
+    public ClassLoader classLoader(ClassLoader parent) {
+        return new MemoryClassLoader(parent, classes);
+    }
+    
     /**
      * Returns a {@code Finder} for this {@code Results}.
      * 
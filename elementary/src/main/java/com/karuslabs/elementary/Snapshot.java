@@ -0,0 +1,181 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2026 Karus Labs.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.karuslabs.elementary;
+
+import java.net.URI;
+import java.util.Locale;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.tools.*;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * An immutable snapshot of a {@code Diagnostic} that does not retain any reference 
+ * to the compilation which reported it. 
+ * 
+ * javac's diagnostics reference the entire compilation context, i.e. source trees,
+ * symbol tables and the file manager. A snapshot instead retains only the kind, 
+ * code, positions and formatted message of a diagnostic, along with the URI of 
+ * its source if the source was created by javac.
+ */
+public final class Snapshot implements Diagnostic<JavaFileObject> {
+    
+    /**
+     * Creates a snapshot of the given diagnostic.
+     * 
+     * @param diagnostic the diagnostic
+     * @return a snapshot of the given diagnostic
+     */
+    public static Snapshot of(Diagnostic<? extends JavaFileObject> diagnostic) {
+        if (diagnostic instanceof Snapshot) {
+            return (Snapshot) diagnostic;
+        }
+        
+        JavaFileObject source = diagnostic.getSource();
+        if (source != null && source.getClass().getName().startsWith("com.sun.tools.javac.")) {
+            source = new Source(source.toUri(), source.getKind());
+        }
+        
+        return new Snapshot(
+            diagnostic.getKind(),
+            diagnostic.getCode(),
+            source,
+            diagnostic.getLineNumber(),
+            diagnostic.getColumnNumber(),
+            diagnostic.getPosition(),
+            diagnostic.getStartPosition(),
+            diagnostic.getEndPosition(),
+            diagnostic.getMessage(Locale.getDefault()),
+            diagnostic.toString()
+        );
+    }
+    
+    
+    private final Kind kind;
+    private final @Nullable String code;
+    private final @Nullable JavaFileObject source;
+    private final long line;
+    private final long column;
+    private final long position;
+    private final long start;
+    private final long end;
+    private final String message;
+    private final String description;
+    
+    Snapshot(Kind kind, @Nullable String code, @Nullable JavaFileObject source, long line, long column, 
+             long position, long start, long end, String message, String description) {
+        this.kind = kind;
+        this.code = code;
+        this.source = source;
+        this.line = line;
+        this.column = column;
+        this.position = position;
+        this.start = start;
+        this.end = end;
+        this.message = message;
+        this.description = description;
+    }
+
+    @Override
+    public Kind getKind() {
+        return kind;
+    }
+
+    @Override
+    public @Nullable JavaFileObject getSource() {
+        return source;
+    }
+
+    @Override
+    public long getPosition() {
+        return position;
+    }
+
+    @Override
+    public long getStartPosition() {
+        return start;
+    }
+
+    @Override
+    public long getEndPosition() {
+        return end;
+    }
+
+    @Override
+    public long getLineNumber() {
+        return line;
+    }
+
+    @Override
+    public long getColumnNumber() {
+        return column;
+    }
+
+    @Override
+    public @Nullable String getCode() {
+        return code;
+    }
+
+    /**
+     * Returns the message of this diagnostic. The message is formatted in the default 
+     * locale when the snapshot is created, the given locale is therefore ignored.
+     * 
+     * @param locale the locale
+     * @return the message
+     */
+    @Override
+    public String getMessage(@Nullable Locale locale) {
+        return message;
+    }
+    
+    @Override
+    public String toString() {
+        return description;
+    }
+    
+    
+    /**
+     * A {@code JavaFileObject} that retains only the URI and kind of a source. 
+     * Its content cannot be read.
+     */
+    static final class Source extends SimpleJavaFileObject {
+        
+        Source(URI uri, JavaFileObject.Kind kind) {
+            super(uri, kind);
+        }
+        
+        @Override
+        public @Nullable NestingKind getNestingKind() {
+            return null;
+        }
+        
+        @Override
+        public @Nullable Modifier getAccessLevel() {
+            return null;
+        }
+        
+    }
+    
+}
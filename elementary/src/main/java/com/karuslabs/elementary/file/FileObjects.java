@@ -29,12 +29,17 @@ import java.io.*;
 import java.lang.reflect.*;
 import java.net.*;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import javax.tools.*;
 
+import org.checkerframework.checker.nullness.qual.Nullable;
+
 import static javax.tools.JavaFileObject.Kind.SOURCE;
 
 /**
- * Utilities for creating {@code JavaFileObject}s.
+ * Utilities for creating {@code JavaFileObject}s. {@code JavaFileObject}s created 
+ * from resources are cached, and only read again if the resources have since been
+ * modified.
  */
 public class FileObjects {
     
@@ -43,6 +48,28 @@ public class FileObjects {
      */
     public static final JavaFileObject DUMMY = ofLines("Dummy", "class Dummy {}");
     
+    static final int CAPACITY = 256;
+    static final long UNKNOWN = -1;
+    /**
+     * The most recently used resources, keyed by URL.
+     */
+    static final Map<String, Cached> RESOURCES = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Cached> eldest) {
+            return size() > CAPACITY;
+        }
+    });
+    
+    /**
+     * The scanned annotations of annotated elements, keyed by the elements' declaring classes.
+     */
+    static final ClassValue<Map<AnnotatedElement, Scan>> SCANS = new ClassValue<>() {
+        @Override
+        protected Map<AnnotatedElement, Scan> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+    
     /**
      * Creates {@code JavaFileObject}s using the {@code @Classpath}, {@code @Inline},
      * {@code @Introspect} and {@code @Resource} annotations on the given class.
@@ -53,16 +80,27 @@ public class FileObjects {
     public static List<JavaFileObject> scan(Class<?> annotated) {
         var files = scan((AnnotatedElement) annotated);
         
-        var introspect = annotated.getAnnotation(Introspect.class);
-        if (introspect != null) {
-            var host = annotated.getNestHost();
-            var file = introspect.value().equals(Introspect.DEFAULT) ? host.getName() : host.getPackageName() + "." + introspect.value();
-            files.add(ofClass(file));
+        var introspected = introspect(annotated);
+        if (introspected != null) {
+            files.add(introspected);
         }
         
         return files;
     }
     
+    /**
+     * Creates a {@code JavaFileObject} using the {@code @Introspect} annotation on
+     * the given class.
+     * 
+     * @param annotated the annotated class
+     * @return the {@code JavaFileObject}, or {@code null} if the given class is not
+     *         annotated with {@code @Introspect}
+     */
+    public static @Nullable JavaFileObject introspect(Class<?> annotated) {
+        var introspected = scanned(annotated).introspected;
+        return introspected == null ? null : ofResource(introspected);
+    }
+    
     /**
      * Creates {@code JavaFileObject}s using the {@code @Classpath}, {@code @Inline} 
      * and {@code @Resource} annotations on the given element.
@@ -71,21 +109,57 @@ public class FileObjects {
      * @return the {@code JavaFileObject}s
      */
     public static List<JavaFileObject> scan(AnnotatedElement annotated) {
-        var files = new ArrayList<JavaFileObject>();
-        
-        for (var name : annotated.getAnnotationsByType(Classpath.class)) {
-            files.add(ofClass(name.value()));
-        }
-        
-        for (var resource : annotated.getAnnotationsByType(Resource.class)) {
-            files.add(ofResource(resource.value()));
+        var files = fixtures(annotated);
+        files.addAll(scanned(annotated).inlines);
+        return files;
+    }
+    
+    /**
+     * Creates {@code JavaFileObject}s using the {@code @Classpath} and {@code @Resource}
+     * annotations on the given element.
+     * 
+     * @param annotated the annotated element
+     * @return the {@code JavaFileObject}s
+     */
+    public static List<JavaFileObject> fixtures(AnnotatedElement annotated) {
+        var resources = scanned(annotated).resources;
+        var files = new ArrayList<JavaFileObject>(resources.size());
+        for (var resource : resources) {
+            files.add(ofResource(resource));
         }
         
-        for (var inline : annotated.getAnnotationsByType(Inline.class)) {
-            files.add(ofLines(inline.name(), inline.source()));
+        return files;
+    }
+    
+    /**
+     * Creates {@code JavaFileObject}s using the {@code @Inline} annotations on the 
+     * given element.
+     * 
+     * @param annotated the annotated element
+     * @return the {@code JavaFileObject}s
+     */
+    public static List<JavaFileObject> inlines(AnnotatedElement annotated) {
+        return new ArrayList<>(scanned(annotated).inlines);
+    }
+    
+    /**
+     * Returns the scanned annotations of the given element, scanning the element
+     * only if it has not been scanned before. Only classes and class members are 
+     * memoized.
+     * 
+     * @param annotated the annotated element
+     * @return the scanned annotations
+     */
+    static Scan scanned(AnnotatedElement annotated) {
+        Class<?> type = null;
+        if (annotated instanceof Class<?>) {
+            type = (Class<?>) annotated;
+            
+        } else if (annotated instanceof Member) {
+            type = ((Member) annotated).getDeclaringClass();
         }
         
-        return files;
+        return type == null ? new Scan(annotated) : SCANS.get(type).computeIfAbsent(annotated, Scan::new);
     }
     
     
@@ -170,9 +244,23 @@ public class FileObjects {
      * @throws UncheckedIOException if the resource could not be opened
      */
     public static JavaFileObject ofResource(URL resource) {
+        var key = resource.toString();
+        var modified = modified(resource);
+        if (modified != UNKNOWN) {
+            var cached = RESOURCES.get(key);
+            if (cached != null && cached.modified == modified) {
+                return cached.file;
+            }
+        }
+        
         try (var stream = resource.openStream()) {
             var uri = uri(resource);
-            return new ByteFileObject(uri, deduce(uri), stream.readAllBytes());
+            var file = new ByteFileObject(uri, deduce(uri), stream.readAllBytes());
+            if (modified != UNKNOWN) {
+                RESOURCES.put(key, new Cached(file, modified));
+            }
+            
+            return file;
             
         } catch (IOException e) {
             throw new UncheckedIOException(e);
@@ -182,6 +270,33 @@ public class FileObjects {
         }
     }
     
+    /**
+     * Returns the time at which the given resource, or the JAR that contains it,
+     * was last modified.
+     * 
+     * @param resource the resource
+     * @return the time at which the given resource was last modified, or {@link #UNKNOWN}
+     *         if it cannot be determined without reading the resource
+     */
+    static long modified(URL resource) {
+        try {
+            var protocol = resource.getProtocol();
+            if ("file".equals(protocol)) {
+                return new File(resource.toURI()).lastModified();
+                
+            } else if ("jar".equals(protocol)) {
+                var jar = ((JarURLConnection) resource.openConnection()).getJarFileURL();
+                return jar.getProtocol().equals("file") ? new File(jar.toURI()).lastModified() : UNKNOWN;
+                
+            } else {
+                return UNKNOWN;
+            }
+            
+        } catch (IOException | URISyntaxException | IllegalArgumentException e) {
+            return UNKNOWN;
+        }
+    }
+    
     /**
      * Creates a URI from the path portion of the given URL if it represents a
      * resource in a JAR.
@@ -218,4 +333,62 @@ public class FileObjects {
         throw new IllegalStateException("This should never happen.");
     }
     
+    /**
+     * A cached resource and the time at which it was last modified.
+     */
+    static final class Cached {
+        
+        final JavaFileObject file;
+        final long modified;
+        
+        Cached(JavaFileObject file, long modified) {
+            this.file = file;
+            this.modified = modified;
+        }
+        
+    }
+    
+    /**
+     * The {@code @Classpath}, {@code @Inline}, {@code @Introspect} and {@code @Resource} 
+     * annotations on an element. Resources are resolved each time they are used 
+     * so that modified resources are read again, whereas inline sources are immutable 
+     * and created only once.
+     */
+    static final class Scan {
+        
+        final List<String> resources;
+        final List<JavaFileObject> inlines;
+        final @Nullable String introspected;
+        
+        Scan(AnnotatedElement annotated) {
+            var resources = new ArrayList<String>();
+            for (var name : annotated.getAnnotationsByType(Classpath.class)) {
+                resources.add(name.value().replace('.', '/') + ".java");
+            }
+            
+            for (var resource : annotated.getAnnotationsByType(Resource.class)) {
+                resources.add(resource.value());
+            }
+            
+            var inlines = new ArrayList<JavaFileObject>();
+            for (var inline : annotated.getAnnotationsByType(Inline.class)) {
+                inlines.add(ofLines(inline.name(), inline.source()));
+            }
+            
+            var introspect = annotated.getAnnotation(Introspect.class);
+            if (introspect != null && annotated instanceof Class<?>) {
+                var host = ((Class<?>) annotated).getNestHost();
+                var name = introspect.value().equals(Introspect.DEFAULT) ? host.getName() : host.getPackageName() + "." + introspect.value();
+                introspected = name.replace('.', '/') + ".java";
+                
+            } else {
+                introspected = null;
+            }
+            
+            this.resources = List.copyOf(resources);
+            this.inlines = List.copyOf(inlines);
+        }
+        
+    }
+    
 }
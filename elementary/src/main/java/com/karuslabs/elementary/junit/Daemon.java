@@ -42,6 +42,7 @@ abstract class Daemon implements TestInstanceFactory, InvocationInterceptor, Aft
     private static final String PARALLEL_CLASS_MODE = "junit.jupiter.execution.parallel.mode.classes.default";
     private static final String PARALLEL_METHOD_MODE = "junit.jupiter.execution.parallel.mode.default";
     private static final String COMPILER = "tools.extension.compiler";
+    private static final String PROFILE = "tools.extension.profile";
     
     /**
      * Starts the compiler and creates an instance of the test class if it has only 1 
@@ -83,6 +84,8 @@ abstract class Daemon implements TestInstanceFactory, InvocationInterceptor, Aft
 
     /**
      * Returns the current compiler, creating one if it does not already exist.
+     * If profiling is enabled, the compiler's compilation is recorded once the 
+     * given context is closed.
      *
      * @param context the context
      * @return the compiler
@@ -94,7 +97,14 @@ abstract class Daemon implements TestInstanceFactory, InvocationInterceptor, Aft
             compiler = DaemonCompiler.of(javac(outputs.getKey(), outputs.getValue()), context.getRequiredTestClass());
             compiler.start();
 
-            context.getStore(Namespace.create(getClass(), context.getRequiredTestClass())).put(COMPILER, compiler);
+            var store = context.getStore(Namespace.create(getClass(), context.getRequiredTestClass()));
+            store.put(COMPILER, compiler);
+            
+            var profiler = Profiler.of(context);
+            if (profiler != null) {
+                var profiled = compiler;
+                store.put(PROFILE, (Store.CloseableResource) () -> profile(context, profiler, profiled));
+            }
         }
 
         return compiler;
@@ -149,6 +159,19 @@ abstract class Daemon implements TestInstanceFactory, InvocationInterceptor, Aft
         Generations.teardown(context);
     }
     
+    /**
+     * Records the given compiler's compilation if the compiler provided an annotation
+     * processing environment.
+     * 
+     * @param context the context
+     * @param profiler the profiler
+     * @param compiler the compiler
+     */
+    void profile(ExtensionContext context, Profiler profiler, DaemonCompiler compiler) {
+        if (compiler.processor.ready != 0) {
+            profiler.record(context, getClass().getSimpleName(), compiler.compiler, compiler.files, compiler.wall(), compiler.environmentTime());
+        }
+    }
     
 
     
@@ -47,6 +47,14 @@ import static javax.lang.model.SourceVersion.latest;
  * processing environment, i.e. {@code javax.lang.model.*}. Said facilities can be accessed 
  * safely via {@code DaemonCompiler.environment()}. {@code DaemonCompiler.shutdown()} 
  * should be called once the environment is no longer needed.
+ * 
+ * A {@code DaemonCompiler} without Java source files to be compiled does not start 
+ * a daemon thread. Instead, the javac model is analyzed directly on the calling 
+ * thread when {@link #start()} is called, since no other compilation stages are 
+ * required to access {@code javax.lang.model.*}.
+ * 
+ * The time until the environment is available and the time that the annotation 
+ * processor is suspended are emitted as JDK Flight Recorder events.
  */
 class DaemonCompiler extends Thread {
     
@@ -64,17 +72,21 @@ class DaemonCompiler extends Thread {
      */
     public static DaemonCompiler of(Compiler compiler, Class<?> annotated) {
         var files = scan(annotated);
-        if (files.isEmpty()) {
+        var direct = files.isEmpty();
+        if (direct) {
             files.add(DUMMY);
         }
         
-        return new DaemonCompiler(compiler.module(annotated.getModule()).currentClasspath(), files);
+        return new DaemonCompiler(compiler.module(annotated.getModule()).currentClasspath(), files, direct);
     }
     
     
-    private final DaemonProcessor processor = new DaemonProcessor();
-    private final Compiler compiler;
-    private final List<JavaFileObject> files;
+    final DaemonProcessor processor = new DaemonProcessor();
+    final Compiler compiler;
+    final List<JavaFileObject> files;
+    private final boolean direct;
+    volatile long started;
+    volatile long finished;
     
     /**
      * Creates a DaemonCompiler with the given compiler and Java source files to
@@ -84,8 +96,71 @@ class DaemonCompiler extends Thread {
      * @param files the Java source files to be compiled
      */
     DaemonCompiler(Compiler compiler, List<JavaFileObject> files) {
+        this(compiler, files, false);
+    }
+    
+    /**
+     * Creates a DaemonCompiler with the given compiler and Java source files to
+     * be compiled.
+     * 
+     * @param compiler the compiler
+     * @param files the Java source files to be compiled
+     * @param direct whether the javac model should be analyzed on the calling thread
+     *               instead of a daemon thread
+     */
+    DaemonCompiler(Compiler compiler, List<JavaFileObject> files, boolean direct) {
         this.compiler = compiler.processors(processor);
         this.files = files;
+        this.direct = direct;
+    }
+    
+    /**
+     * Starts this {@code DaemonCompiler}, or analyzes the javac model on the calling
+     * thread if this {@code DaemonCompiler} is direct.
+     */
+    @Override
+    public synchronized void start() {
+        processor.event.direct = direct;
+        processor.event.sources = files.size();
+        processor.event.begin();
+        started = System.nanoTime();
+        if (direct) {
+            analyze();
+            
+        } else {
+            super.start();
+        }
+    }
+    
+    /**
+     * Parses and analyzes the Java source files on the calling thread without
+     * generating any classes. The annotation processor is released before analysis
+     * so that it never suspends the calling thread.
+     */
+    void analyze() {
+        processor.completion.countDown();
+        
+        var diagnostics = new Diagnostics();
+        try {
+            var task = compiler.task(files, diagnostics);
+            task.parse();
+            task.analyze();
+            
+        } catch (Throwable e) {
+            fail(new CompilationException("javac either crashed or failed to start.", e));
+            return;
+            
+        } finally {
+            finished = System.nanoTime();
+        }
+        
+        if (!diagnostics.errors.isEmpty()) {
+            var results = new Results(files, List.of(), diagnostics, false);
+            fail(new CompilationException(results.find().diagnostics()));
+            
+        } else if (!processor.environment.isDone()) {
+            fail(new CompilationException("javac did not process any round."));
+        }
     }
     
     @Override
@@ -96,15 +171,36 @@ class DaemonCompiler extends Thread {
             results = compiler.compile(files);
             
         } catch (Throwable e) {
-            processor.environment.completeExceptionally(new CompilationException("javac either crashed or failed to start.", e));
+            fail(new CompilationException("javac either crashed or failed to start.", e));
             return;
+            
+        } finally {
+            finished = System.nanoTime();
         }
         
         if (!results.success) {
-            processor.environment.completeExceptionally(new CompilationException(results.find().diagnostics()));
+            fail(new CompilationException(results.find().diagnostics()));
         }
     }
     
+    /**
+     * Completes the annotation processing environment exceptionally with the given
+     * exception. The environment event is committed as failed, before the environment
+     * is completed, if compilation failed before the annotation processing environment
+     * was available. The environment is only ever completed on the compiling thread,
+     * hence the event is never committed twice.
+     * 
+     * @param exception the exception
+     */
+    void fail(CompilationException exception) {
+        if (!processor.environment.isDone()) {
+            processor.event.failed = true;
+            processor.event.commit();
+        }
+        
+        processor.environment.completeExceptionally(exception);
+    }
+    
     /**
      * Returns the current annotation processing environment.
      * 
@@ -114,6 +210,30 @@ class DaemonCompiler extends Thread {
         return processor.environment.join();
     }
     
+    /**
+     * Returns the time in nanoseconds that this {@code DaemonCompiler} has spent compiling,
+     * excluding the time that the annotation processor was suspended.
+     * 
+     * @return the time spent compiling so far
+     */
+    long wall() {
+        if (finished == 0) {
+            return processor.ready - started;
+        }
+        
+        return (finished - started) - (processor.resumed - processor.ready);
+    }
+    
+    /**
+     * Returns the time in nanoseconds from when this {@code DaemonCompiler} was started
+     * until the annotation processing environment became available.
+     * 
+     * @return the time to the annotation processing environment
+     */
+    long environmentTime() {
+        return processor.ready - started;
+    }
+    
     /**
      * Shuts down this {@code DaemonCompiler}.
      */
@@ -132,6 +252,9 @@ class DaemonCompiler extends Thread {
         final CompletableFuture<Environment> environment = new CompletableFuture<>();
         final CountDownLatch completion = new CountDownLatch(1);
         ProcessingEnvironment env;
+        final DaemonEnvironmentEvent event = new DaemonEnvironmentEvent();
+        volatile long ready;
+        volatile long resumed;
 
         @Override
         public void init(ProcessingEnvironment env) {
@@ -145,12 +268,19 @@ class DaemonCompiler extends Thread {
                 return false;
             }
             
+            ready = System.nanoTime();
+            event.commit();
+            
             environment.complete(new Environment(round, env.getElementUtils(), env.getTypeUtils(), Trees.instance(env), env.getMessager(), env.getFiler()));
+            var suspension = new DaemonSuspensionEvent();
+            suspension.begin();
             try {
                 completion.await();
             } catch (InterruptedException e) {
                 // ignored 
             }
+            suspension.commit();
+            resumed = System.nanoTime();
             
             return false;
         }
@@ -0,0 +1,83 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2026 Karus Labs.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.karuslabs.elementary.junit;
+
+import jdk.jfr.*;
+
+/**
+ * A JDK Flight Recorder event that spans the start of a {@link DaemonCompiler} until
+ * its annotation processing environment becomes available.
+ */
+@Name("com.karuslabs.elementary.DaemonEnvironment")
+@Label("Daemon Environment")
+@Category({"Elementary", "Daemon"})
+@Description("Start of a daemon compiler until its annotation processing environment is available")
+class DaemonEnvironmentEvent extends Event {
+    
+    @Label("Direct")
+    @Description("Whether the javac model was analyzed on the calling thread")
+    boolean direct;
+    
+    @Label("Sources")
+    int sources;
+    
+    @Label("Failed")
+    @Description("Whether compilation failed before the annotation processing environment was available")
+    boolean failed;
+    
+}
+
+/**
+ * A JDK Flight Recorder event that spans the suspension of a {@link DaemonCompiler}'s
+ * annotation processor, during which its environment is handed off to other threads.
+ */
+@Name("com.karuslabs.elementary.DaemonSuspension")
+@Label("Daemon Suspension")
+@Category({"Elementary", "Daemon"})
+@Description("Suspension of a daemon compiler's annotation processor")
+class DaemonSuspensionEvent extends Event {
+    
+}
+
+/**
+ * A JDK Flight Recorder event that spans an I/O operation on the outputs for generated
+ * classes and sources.
+ */
+@Name("com.karuslabs.elementary.Generation")
+@Label("Generation I/O")
+@Category({"Elementary", "Generation"})
+@Description("I/O operation on the outputs for generated classes and sources")
+class GenerationEvent extends Event {
+    
+    @Label("Operation")
+    String operation;
+    
+    @Label("Directory")
+    String directory;
+    
+    @Label("Pooled")
+    @Description("Whether the directory was taken from, or returned to, the pool")
+    boolean pooled;
+    
+}
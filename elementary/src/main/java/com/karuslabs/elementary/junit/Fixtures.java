@@ -0,0 +1,139 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2026 Karus Labs.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.karuslabs.elementary.junit;
+
+import com.karuslabs.elementary.CompilationException;
+
+import java.io.*;
+import java.nio.file.*;
+import java.util.*;
+import java.util.concurrent.*;
+import javax.tools.JavaFileObject;
+
+import static com.karuslabs.elementary.Compiler.javac;
+
+/**
+ * Java source files that are compiled once per test run and shared between compilations
+ * as classes. Concurrent requests for the same Java source files and compiler options
+ * wait for a single compilation rather than compiling them again.
+ */
+class Fixtures {
+    
+    private static final Map<List<List<String>>, CompletableFuture<File>> COMPILED = new ConcurrentHashMap<>();
+    
+    static {
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            for (var future : COMPILED.values()) {
+                var directory = future.getNow(null);
+                if (directory != null) {
+                    Generations.delete(directory.getParentFile());
+                }
+            }
+        }));
+    }
+    
+    /**
+     * Returns a directory that contains the classes compiled from the given Java 
+     * source files with the given compiler options, compiling them if they have 
+     * not been compiled in this test run.
+     * 
+     * @param files the Java source files
+     * @param options the compiler options
+     * @return the directory which contains the compiled classes
+     * @throws CompilationException if the given files could not be compiled
+     * @throws UncheckedIOException if a temporary directory could not be created
+     */
+    static File compile(List<JavaFileObject> files, List<String> options) {
+        var uris = new ArrayList<String>(files.size());
+        for (var file : files) {
+            uris.add(file.toUri().toString());
+        }
+        
+        var key = List.of(List.copyOf(options), uris);
+        var future = new CompletableFuture<File>();
+        var existing = COMPILED.putIfAbsent(key, future);
+        if (existing != null) {
+            try {
+                return existing.join();
+                
+            } catch (CompletionException e) {
+                throw (RuntimeException) e.getCause();
+            }
+        }
+        
+        try {
+            var directory = compile(files, options, Files.createTempDirectory("elementary-fixtures"));
+            future.complete(directory);
+            return directory;
+            
+        } catch (IOException e) {
+            var exception = new UncheckedIOException(e);
+            fail(key, future, exception);
+            throw exception;
+            
+        } catch (RuntimeException e) {
+            fail(key, future, e);
+            throw e;
+        }
+    }
+    
+    /**
+     * Compiles the given Java source files with the given compiler options into
+     * the given directory.
+     * 
+     * @param files the Java source files
+     * @param options the compiler options
+     * @param directory the directory
+     * @return the directory which contains the compiled classes
+     * @throws CompilationException if the given files could not be compiled
+     */
+    static File compile(List<JavaFileObject> files, List<String> options, Path directory) {
+        var classes = directory.resolve("classes").toFile();
+        var sources = directory.resolve("sources").toFile();
+        classes.mkdirs();
+        sources.mkdirs();
+        
+        var results = javac(classes, sources).options(options).currentClasspath().compile(files);
+        if (!results.success) {
+            Generations.delete(directory.toFile());
+            throw new CompilationException(results.find().diagnostics());
+        }
+        
+        return classes;
+    }
+    
+    /**
+     * Removes the given failed compilation so that it may be retried and propagates
+     * the given exception to requests waiting on it.
+     * 
+     * @param key the key
+     * @param future the future of the compilation
+     * @param exception the cause of the failure
+     */
+    static void fail(List<List<String>> key, CompletableFuture<File> future, RuntimeException exception) {
+        COMPILED.remove(key, future);
+        future.completeExceptionally(exception);
+    }
+    
+}
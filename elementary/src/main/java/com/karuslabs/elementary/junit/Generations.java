@@ -10,9 +10,14 @@ import java.lang.annotation.Annotation;
 import java.nio.file.*;
 import java.util.*;
 import java.util.AbstractMap.SimpleEntry;
+import java.util.concurrent.*;
 
 /**
  * Provides functions for setting up and tearing down the outputs for generated classes and sources.
+ * 
+ * Temporary directories are pooled. A directory is cleared on a background thread 
+ * when it is torn down and subsequently reused, instead of being created and deleted 
+ * for each test.
   */
 
 class Generations {
@@ -20,6 +25,31 @@ class Generations {
     static final String TEMP_DIRECTORY = "TEMP_DIRECTORY";
     static final String GENERATED_CLASSES = "GENERATED_CLASSES";
     static final String GENERATED_SOURCES = "GENERATED_SOURCES";
+    static final int CAPACITY = 8;
+    
+    static final Deque<File> POOL = new ConcurrentLinkedDeque<>();
+    static final ExecutorService CLEANER = Executors.newSingleThreadExecutor(runnable -> {
+        var thread = new Thread(runnable, "elementary-generations");
+        thread.setDaemon(true);
+        return thread;
+    });
+    
+    static {
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            CLEANER.shutdown();
+            try {
+                CLEANER.awaitTermination(30, TimeUnit.SECONDS);
+                
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            
+            File directory;
+            while ((directory = POOL.poll()) != null) {
+                delete(directory);
+            }
+        }));
+    }
 
     /**
      * Returns a compiler that is configured to output generated classes and sources to a temporary directory.
@@ -31,7 +61,7 @@ class Generations {
         try {
             var type = context.getRequiredTestClass();
             var output = type.getAnnotation(Generation.class) == null ? new DefaultGeneration() : type.getAnnotation(Generation.class);
-            var directory = Files.createTempDirectory(type.getCanonicalName());
+            var directory = take(type.getCanonicalName(), output.retain()).toPath();
 
             File classes;
             if (output.classes().equals(Generation.DEFAULT_OUTPUT)) {
@@ -61,7 +91,120 @@ class Generations {
     }
 
     /**
-     * Deletes the outputs for generated classes and sources.
+     * Returns a clean temporary directory from the pool, or creates one with the 
+     * given prefix if the pool is empty or the directory is retained. Retained 
+     * directories are always created so that they can be identified by the prefix.
+     * Directories in the pool that are not clean are discarded.
+     * 
+     * @param prefix the prefix of a created directory's name
+     * @param retain whether the directory is retained after the test
+     * @return a temporary directory that contains empty {@code generated-classes}
+     *         and {@code generated-sources} directories
+     * @throws IOException if a temporary directory could not be created
+     */
+    static File take(String prefix, boolean retain) throws IOException {
+        var event = new GenerationEvent();
+        event.begin();
+        
+        File directory;
+        while (!retain && (directory = POOL.poll()) != null) {
+            if (clean(directory)) {
+                return record(event, "take", directory, true);
+            }
+            
+            var discarded = directory;
+            CLEANER.execute(() -> delete(discarded));
+        }
+        
+        directory = Files.createTempDirectory(prefix).toFile();
+        new File(directory, "generated-classes").mkdirs();
+        new File(directory, "generated-sources").mkdirs();
+        return record(event, "take", directory, false);
+    }
+    
+    /**
+     * Tests if the given directory contains only empty {@code generated-classes} and
+     * {@code generated-sources} directories.
+     * 
+     * @param directory the directory
+     * @return {@code true} if the given directory is clean
+     */
+    static boolean clean(File directory) {
+        var files = directory.list();
+        var classes = new File(directory, "generated-classes").list();
+        var sources = new File(directory, "generated-sources").list();
+        
+        return files != null && files.length == 2 && classes != null && classes.length == 0 && sources != null && sources.length == 0;
+    }
+    
+    /**
+     * Clears the given temporary directory and returns it to the pool, or deletes
+     * it if the pool is full.
+     * 
+     * @param directory the directory
+     */
+    static void recycle(File directory) {
+        var event = new GenerationEvent();
+        event.begin();
+        
+        var pooled = false;
+        try (var files = Files.list(directory.toPath())) {
+            files.forEach(file -> delete(file.toFile()));
+            
+            var classes = new File(directory, "generated-classes");
+            var sources = new File(directory, "generated-sources");
+            if (POOL.size() < CAPACITY && classes.mkdirs() && sources.mkdirs()) {
+                POOL.offer(directory);
+                pooled = true;
+                
+            } else {
+                delete(directory);
+            }
+            
+        } catch (IOException | UncheckedIOException e) {
+            delete(directory);
+        }
+        
+        record(event, "recycle", directory, pooled);
+    }
+    
+    /**
+     * Commits the given event if it is enabled.
+     * 
+     * @param event the event
+     * @param operation the operation
+     * @param directory the directory
+     * @param pooled whether the directory was taken from, or returned to, the pool
+     * @return the directory
+     */
+    static File record(GenerationEvent event, String operation, File directory, boolean pooled) {
+        event.end();
+        if (event.shouldCommit()) {
+            event.operation = operation;
+            event.directory = directory.getPath();
+            event.pooled = pooled;
+            event.commit();
+        }
+        
+        return directory;
+    }
+    
+    /**
+     * Blocks until all pending directories have been cleared.
+     */
+    static void await() {
+        try {
+            CLEANER.submit(() -> {}).get();
+            
+        } catch (InterruptedException | ExecutionException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Deletes custom outputs for generated classes and sources, and recycles the
+     * temporary directory on a background thread. Custom outputs are deleted on the 
+     * calling thread since subsequent tests may reuse the same paths.
      *
      * @param context the extension context
      */
@@ -78,13 +221,21 @@ class Generations {
             return;
         }
 
-        delete(classes);
-        delete(sources);
-        delete(directory);
+        if (classes != null && (directory == null || !classes.toPath().startsWith(directory.toPath()))) {
+            delete(classes);
+        }
+
+        if (sources != null && (directory == null || !sources.toPath().startsWith(directory.toPath()))) {
+            delete(sources);
+        }
+
+        if (directory != null) {
+            CLEANER.execute(() -> recycle(directory));
+        }
     }
 
     static void delete(@Nullable File file) {
-        if (file == null) {
+        if (file == null || !file.exists()) {
             return;
         }
 
@@ -30,11 +30,12 @@ import com.karuslabs.elementary.junit.annotations.*;
 import java.util.*;
 import java.lang.reflect.AnnotatedElement;
 import javax.annotation.processing.Processor;
+import javax.tools.JavaFileObject;
 
 import org.junit.jupiter.api.extension.*;
 
 import static com.karuslabs.elementary.Compiler.javac;
-import static com.karuslabs.elementary.file.FileObjects.scan;
+import static com.karuslabs.elementary.file.FileObjects.*;
 
 /**
  * A JUnit extension that compiles Java source files specified by {@code @Classpath},
@@ -43,6 +44,13 @@ import static com.karuslabs.elementary.file.FileObjects.scan;
  * {@link Results} as a test method parameter. The only constructor and method parameter
  * that this extension supports is {@code Results}.
  * 
+ * Java source files specified by {@code @Classpath} and {@code @Resource} annotations
+ * are compiled only once per test run if the test class or method is annotated 
+ * with {@link Precompile}.
+ * 
+ * Compilations are profiled if the {@code elementary.profile} configuration parameter
+ * is {@code true}. See {@link Profiler} for more information.
+ * 
  * @see com.karuslabs.elementary.junit.annotations
  */
 public class JavacExtension implements ParameterResolver, AfterEachCallback {
@@ -59,12 +67,72 @@ public class JavacExtension implements ParameterResolver, AfterEachCallback {
         resolveOptions(compiler, type);
         resolveOptions(compiler, executable);
         
-        var files = scan(type);
-        files.addAll(scan(executable));
+        List<JavaFileObject> files;
+        if (type.isAnnotationPresent(Precompile.class) || executable.isAnnotationPresent(Precompile.class)) {
+            files = precompile(compiler, type, executable);
+            
+        } else {
+            files = scan(type);
+            files.addAll(scan(executable));
+        }
 
         context.getStore(ExtensionContext.Namespace.create(JavacExtension.class)).put(Compiler.class, compiler);
         
-        return compiler.currentClasspath().compile(files);
+        compiler.currentClasspath();
+        
+        var profiler = Profiler.of(context);
+        var started = System.nanoTime();
+        var results = compiler.compile(files);
+        if (profiler != null) {
+            profiler.record(context, JavacExtension.class.getSimpleName(), compiler, files, System.nanoTime() - started, Profiler.UNKNOWN);
+        }
+        
+        return results;
+    }
+    
+    /**
+     * Adds the classes compiled from the Java source files specified by {@code @Classpath}
+     * and {@code @Resource} annotations to the given compiler's classpath.
+     * 
+     * @param compiler the compiler
+     * @param type the test class
+     * @param executable the test method
+     * @return the Java source files that remain to be compiled from source
+     */
+    List<JavaFileObject> precompile(Compiler compiler, Class<?> type, AnnotatedElement executable) {
+        var fixtures = fixtures(type);
+        fixtures.addAll(fixtures(executable));
+        if (!fixtures.isEmpty()) {
+            var options = new ArrayList<String>();
+            Collections.addAll(options, options(type));
+            Collections.addAll(options, options(executable));
+            compiler.classpath(List.of(Fixtures.compile(fixtures, options)));
+        }
+        
+        var files = inlines(type);
+        var introspected = introspect(type);
+        if (introspected != null) {
+            files.add(introspected);
+        }
+        files.addAll(inlines(executable));
+        
+        if (files.isEmpty()) {
+            files.add(DUMMY);
+        }
+        
+        return files;
+    }
+    
+    /**
+     * Returns the compiler options specified by the {@code @Options} annotation on
+     * the given annotated element.
+     * 
+     * @param annotated the annotated element
+     * @return the compiler options
+     */
+    static String[] options(AnnotatedElement annotated) {
+        var flags = annotated.getAnnotation(Options.class);
+        return flags == null ? EMPTY : flags.value().split(" ");
     }
     
     /**
@@ -74,8 +142,7 @@ public class JavacExtension implements ParameterResolver, AfterEachCallback {
      * @param annotated the annotated element
      */
     void resolveOptions(Compiler compiler, AnnotatedElement annotated) {
-        var flags = annotated.getAnnotation(Options.class);
-        compiler.options(flags == null ? EMPTY : flags.value().split(" "));
+        compiler.options(options(annotated));
         
         var processors = new ArrayList<Processor>();
         var annotation = annotated.getAnnotation(Processors.class);
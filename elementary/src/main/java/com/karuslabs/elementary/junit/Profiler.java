@@ -0,0 +1,220 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2026 Karus Labs.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.karuslabs.elementary.junit;
+
+import com.karuslabs.elementary.Compiler;
+
+import java.io.*;
+import java.lang.reflect.Method;
+import java.nio.file.*;
+import java.util.*;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import javax.tools.JavaFileObject;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.ExtensionContext.Namespace;
+import org.junit.jupiter.api.extension.ExtensionContext.Store.CloseableResource;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Records the compilations performed by {@link JavacExtension} and {@link ToolsExtension} 
+ * throughout a test run. Profiling is enabled by setting the {@code elementary.profile}
+ * configuration parameter to {@code true}.
+ * 
+ * Once the test run completes, {@code elementary-profile.csv} and {@code elementary-profile.json}
+ * reports, sorted from slowest to fastest compilation, are written to the directory
+ * specified by the {@code elementary.profile.directory} configuration parameter, 
+ * or {@code target} if unspecified.
+ */
+final class Profiler implements CloseableResource {
+    
+    static final String ENABLED = "elementary.profile";
+    static final String DIRECTORY = "elementary.profile.directory";
+    static final String REPORT = "elementary-profile";
+    static final long UNKNOWN = -1;
+    
+    /**
+     * Returns the profiler for the current test run, or {@code null} if profiling
+     * is disabled.
+     * 
+     * @param context the extension context
+     * @return the profiler, or {@code null} if profiling is disabled
+     */
+    static @Nullable Profiler of(ExtensionContext context) {
+        if (!context.getConfigurationParameter(ENABLED).orElse("").equalsIgnoreCase("true")) {
+            return null;
+        }
+        
+        var directory = new File(context.getConfigurationParameter(DIRECTORY).orElse("target"));
+        return context.getRoot().getStore(Namespace.create(Profiler.class)).getOrComputeIfAbsent(Profiler.class, type -> new Profiler(directory), Profiler.class);
+    }
+    
+    /**
+     * Returns the name of the test in the given context.
+     * 
+     * @param context the extension context
+     * @return the name of the test
+     */
+    static String name(ExtensionContext context) {
+        var type = context.getRequiredTestClass().getName();
+        return context.getTestMethod().map(Method::getName).map(method -> type + "#" + method).orElse(type);
+    }
+    
+    /**
+     * Returns the total size of the given Java source files in UTF-8 encoded bytes.
+     * 
+     * @param files the Java source files
+     * @return the total size of the given Java source files, or {@code -1} if the
+     *         size could not be determined
+     */
+    static long bytes(List<JavaFileObject> files) {
+        long bytes = 0;
+        try {
+            for (var file : files) {
+                bytes += file.getCharContent(true).toString().getBytes(UTF_8).length;
+            }
+            
+        } catch (IOException | UnsupportedOperationException e) {
+            return UNKNOWN;
+        }
+        
+        return bytes;
+    }
+    
+    
+    final Queue<Sample> samples = new ConcurrentLinkedQueue<>();
+    private final File directory;
+    
+    /**
+     * Creates a {@code Profiler} that writes its reports to the given directory.
+     * 
+     * @param directory the directory
+     */
+    Profiler(File directory) {
+        this.directory = directory;
+    }
+    
+    /**
+     * Records a compilation.
+     * 
+     * @param context the extension context
+     * @param extension the extension that performed the compilation
+     * @param compiler the compiler
+     * @param files the compiled Java source files
+     * @param wall the time spent compiling in nanoseconds
+     * @param environment the time to the annotation processing environment in nanoseconds, 
+     *                    or {@code -1} if not applicable
+     */
+    void record(ExtensionContext context, String extension, Compiler compiler, List<JavaFileObject> files, long wall, long environment) {
+        samples.add(new Sample(name(context), extension, wall, files.size(), bytes(files), compiler.classpathSize(), compiler.processorCount(), environment));
+    }
+    
+    /**
+     * Writes the reports of all recorded compilations.
+     * 
+     * @throws IOException if the reports could not be written
+     */
+    @Override
+    public void close() throws IOException {
+        var sorted = new ArrayList<>(samples);
+        sorted.sort(Comparator.comparingLong((Sample sample) -> sample.wall).reversed());
+        
+        directory.mkdirs();
+        
+        var csv = new StringBuilder("test,extension,wall_ms,sources,bytes,classpath,processors,environment_ms\n");
+        for (var sample : sorted) {
+            csv.append(sample.csv()).append('\n');
+        }
+        Files.writeString(directory.toPath().resolve(REPORT + ".csv"), csv, UTF_8);
+        
+        var json = new StringJoiner(",\n", "[\n", "\n]\n");
+        for (var sample : sorted) {
+            json.add(sample.json());
+        }
+        Files.writeString(directory.toPath().resolve(REPORT + ".json"), json.toString(), UTF_8);
+    }
+    
+    
+    /**
+     * A recorded compilation.
+     */
+    static final class Sample {
+        
+        final String test;
+        final String extension;
+        final long wall;
+        final int sources;
+        final long bytes;
+        final int classpath;
+        final int processors;
+        final long environment;
+        
+        Sample(String test, String extension, long wall, int sources, long bytes, int classpath, int processors, long environment) {
+            this.test = test;
+            this.extension = extension;
+            this.wall = wall;
+            this.sources = sources;
+            this.bytes = bytes;
+            this.classpath = classpath;
+            this.processors = processors;
+            this.environment = environment;
+        }
+        
+        /**
+         * Returns this sample as a CSV row.
+         * 
+         * @return a CSV row
+         */
+        String csv() {
+            return "\"" + test.replace("\"", "\"\"") + "\"," + extension + "," + millis(wall) + "," + sources + "," 
+                 + bytes + "," + classpath + "," + processors + "," + (environment == UNKNOWN ? "" : millis(environment));
+        }
+        
+        /**
+         * Returns this sample as a JSON object.
+         * 
+         * @return a JSON object
+         */
+        String json() {
+            return "  {\"test\": \"" + test.replace("\\", "\\\\").replace("\"", "\\\"") + "\", \"extension\": \"" + extension 
+                 + "\", \"wall_ms\": " + millis(wall) + ", \"sources\": " + sources + ", \"bytes\": " + bytes 
+                 + ", \"classpath\": " + classpath + ", \"processors\": " + processors 
+                 + ", \"environment_ms\": " + (environment == UNKNOWN ? "null" : millis(environment)) + "}";
+        }
+        
+        /**
+         * Formats the given nanoseconds as milliseconds.
+         * 
+         * @param nanos the nanoseconds
+         * @return the milliseconds
+         */
+        static String millis(long nanos) {
+            return String.format(Locale.ROOT, "%.3f", nanos / 1_000_000.0);
+        }
+        
+    }
+    
+}
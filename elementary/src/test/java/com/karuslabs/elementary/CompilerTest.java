@@ -32,6 +32,8 @@ import javax.annotation.processing.*;
 import javax.lang.model.SourceVersion;
 import javax.lang.model.element.TypeElement;
 import javax.tools.*;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordingFile;
 
 import org.junit.jupiter.api.*;
 import org.junit.jupiter.api.io.TempDir;
@@ -58,6 +60,31 @@ class CompilerTest {
     }
 
 
+    @Test
+    void compile_event() throws IOException {
+        var file = new File(classes, "compilation.jfr").toPath();
+        try (var recording = new Recording()) {
+            recording.enable("com.karuslabs.elementary.Compilation");
+            recording.start();
+            
+            javac(classes, sources).options("-Xlint").compile(ofLines("Invalid", "class Invalid {"));
+            
+            recording.stop();
+            recording.dump(file);
+        }
+        
+        var events = RecordingFile.readAllEvents(file);
+        assertEquals(1, events.size());
+        
+        var event = events.get(0);
+        assertEquals(1, event.getInt("sources"));
+        assertEquals("-Xlint", event.getString("options"));
+        assertEquals(0, event.getInt("processors"));
+        assertFalse(event.getBoolean("success"));
+        assertEquals(1, event.getInt("errors"));
+    }
+
+
     @Test
     void processors_varargs() {
         var results = javac(classes, sources).processors(new WarningProcessor()).compile(DUMMY);
@@ -81,6 +108,30 @@ class CompilerTest {
     }
 
 
+    @Test
+    void compile_classes() throws ReflectiveOperationException {
+        var results = javac(classes, sources).compile(ofLines("a.Some", "package a; public class Some { public static String call() { return new Object() {}.getClass().getName(); } }"));
+        
+        assertEquals(Set.of("a.Some", "a.Some$1"), results.classes.keySet());
+        assertTrue(new File(classes, "a/Some.class").isFile());
+        
+        var type = results.classLoader().loadClass("a.Some");
+        
+        assertSame(results.classLoader(), type.getClassLoader());
+        assertEquals("a.Some$1", type.getMethod("call").invoke(null));
+        assertThrows(ClassNotFoundException.class, () -> results.classLoader().loadClass("a.Other"));
+    }
+    
+    @Test
+    void compile_classes_parent() throws ClassNotFoundException {
+        var parent = new URLClassLoader(new URL[0], null);
+        var results = javac(classes, sources).compile(ofLines("Some", "public class Some {}"));
+        var loader = results.classLoader(parent);
+        
+        assertSame(loader, loader.loadClass("Some").getClassLoader());
+        assertThrows(ClassNotFoundException.class, () -> loader.loadClass(CompilerTest.class.getName()));
+    }
+
     @Test
     void options_varargs() throws IOException, URISyntaxException {
         var results = javac(classes, sources).options("-nowarn").processors(new WarningProcessor()).compile(DUMMY);
@@ -48,8 +48,12 @@ class DiagnosticsTest {
         
         diagnostics.report(diagnostic);
         
-        assertEquals(List.of(diagnostic), diagnostics.all);
-        assertEquals(List.of(diagnostic), function.apply(diagnostics));
+        var snapshot = diagnostics.all.get(0);
+        
+        assertEquals(1, diagnostics.all.size());
+        assertEquals(Snapshot.class, snapshot.getClass());
+        assertEquals(kind, snapshot.getKind());
+        assertEquals(List.of(snapshot), function.apply(diagnostics));
     }
     
     static Stream<Arguments> report_parameters() {
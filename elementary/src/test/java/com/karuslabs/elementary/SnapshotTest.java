@@ -0,0 +1,97 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2026 Karus Labs.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.karuslabs.elementary;
+
+import java.io.File;
+import java.net.URI;
+import java.util.Locale;
+import javax.tools.*;
+import javax.tools.Diagnostic.Kind;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static com.karuslabs.elementary.Compiler.javac;
+import static com.karuslabs.elementary.file.FileObjects.ofLines;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class SnapshotTest {
+    
+    @TempDir
+    File classes;
+    @TempDir
+    File sources;
+    
+    @Test
+    void of() {
+        var source = ofLines("A", "class A {}");
+        Diagnostic<JavaFileObject> diagnostic = mock(Diagnostic.class);
+        when(diagnostic.getKind()).thenReturn(Kind.WARNING);
+        when(diagnostic.getCode()).thenReturn("code");
+        when(diagnostic.getSource()).thenReturn(source);
+        when(diagnostic.getLineNumber()).thenReturn(1L);
+        when(diagnostic.getColumnNumber()).thenReturn(2L);
+        when(diagnostic.getPosition()).thenReturn(3L);
+        when(diagnostic.getStartPosition()).thenReturn(4L);
+        when(diagnostic.getEndPosition()).thenReturn(5L);
+        when(diagnostic.getMessage(Locale.getDefault())).thenReturn("message");
+        when(diagnostic.toString()).thenReturn("description");
+        
+        var snapshot = Snapshot.of(diagnostic);
+        
+        assertEquals(Kind.WARNING, snapshot.getKind());
+        assertEquals("code", snapshot.getCode());
+        assertSame(source, snapshot.getSource());
+        assertEquals(1L, snapshot.getLineNumber());
+        assertEquals(2L, snapshot.getColumnNumber());
+        assertEquals(3L, snapshot.getPosition());
+        assertEquals(4L, snapshot.getStartPosition());
+        assertEquals(5L, snapshot.getEndPosition());
+        assertEquals("message", snapshot.getMessage(Locale.ROOT));
+        assertEquals("description", snapshot.toString());
+        assertSame(snapshot, Snapshot.of(snapshot));
+    }
+    
+    @Test
+    void of_compilation() {
+        var results = javac(classes, sources).compile(ofLines("Invalid", "class Invalid { int a }"));
+        var snapshot = results.errors.get(0);
+        
+        assertEquals(Snapshot.class, snapshot.getClass());
+        assertEquals(1L, snapshot.getLineNumber());
+        assertEquals("compiler.err.expected", snapshot.getCode());
+        assertEquals("Invalid.java", snapshot.getSource().toUri().getPath());
+        assertTrue(snapshot.toString().startsWith("Invalid.java:1: error: ';' expected"), snapshot.toString());
+    }
+    
+    @Test
+    void source() {
+        var source = new Snapshot.Source(URI.create("file:///A.java"), JavaFileObject.Kind.SOURCE);
+        
+        assertNull(source.getNestingKind());
+        assertNull(source.getAccessLevel());
+    }
+    
+}
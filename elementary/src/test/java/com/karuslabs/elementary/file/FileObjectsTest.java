@@ -64,6 +64,35 @@ class FileObjectsTest {
         assertTrue(javac(classes, sources).compile(FileObjects.scan(FileObjectsTest.class)).success);
     }
 
+    @Test
+    void scan_memoized() {
+        var first = FileObjects.scan(FileObjectsTest.class);
+        var second = FileObjects.scan(FileObjectsTest.class);
+        
+        assertEquals(3, first.size());
+        assertNotSame(first, second);
+        assertSame(first.get(2), second.get(2));
+        assertSame(FileObjects.scanned(FileObjectsTest.class), FileObjects.scanned(FileObjectsTest.class));
+    }
+    
+    @Test
+    @Inline(name = "Method", source = "class Method {}")
+    void scan_method() throws NoSuchMethodException {
+        var method = FileObjectsTest.class.getDeclaredMethod("scan_method");
+        
+        assertSame(FileObjects.scanned(method), FileObjects.scanned(FileObjectsTest.class.getDeclaredMethod("scan_method")));
+        assertEquals(List.of("Method.java"), List.of(inlines(method).get(0).toUri().getPath()));
+    }
+    
+    @Test
+    void scan_parameter() throws NoSuchMethodException {
+        var parameter = FileObjectsTest.class.getDeclaredMethod("scan_parameter_host", String.class).getParameters()[0];
+        
+        assertNotSame(FileObjects.scanned(parameter), FileObjects.scanned(parameter));
+    }
+    
+    void scan_parameter_host(String parameter) {}
+
     @Test
     void ofLines_varargs() {
         assertTrue(javac(classes, sources).compile(ofLines("Dummy", new String[] {"class Dummy {}"})).success);
@@ -84,6 +113,54 @@ class FileObjectsTest {
     }
     
     
+    @Test
+    void ofResource_cached() {
+        assertSame(ofClass("com.karuslabs.elementary.junit.example.ValidCase"), ofClass("com.karuslabs.elementary.junit.example.ValidCase"));
+    }
+    
+    @Test
+    void ofResource_modified() throws IOException {
+        var file = new File(classes, "Modified.java");
+        try (var writer = new FileWriter(file)) {
+            writer.write("class Modified {}");
+        }
+        file.setLastModified(1000);
+        
+        var url = file.toURI().toURL();
+        var original = ofResource(url);
+        
+        try (var writer = new FileWriter(file)) {
+            writer.write("class Modified { int a; }");
+        }
+        file.setLastModified(2000);
+        
+        var modified = ofResource(url);
+        
+        assertNotSame(original, modified);
+        assertEquals("class Modified { int a; }", modified.getCharContent(false).toString());
+    }
+    
+    @Test
+    void ofResource_uncached() throws IOException, URISyntaxException {
+        URL url = when(mock(URL.class).openStream()).then(invocation -> new ByteArrayInputStream(new byte[0])).getMock();
+        when(url.getProtocol()).thenReturn("http");
+        when(url.toURI()).thenReturn(URI.create("http://localhost/Some.java"));
+        
+        assertNotSame(ofResource(url), ofResource(url));
+    }
+    
+    @Test
+    void ofResource_evicted() {
+        for (int i = 0; i <= CAPACITY; i++) {
+            RESOURCES.put(String.valueOf(i), new Cached(DUMMY, 0));
+        }
+        
+        assertEquals(CAPACITY, RESOURCES.size());
+        assertFalse(RESOURCES.containsKey("0"));
+        
+        RESOURCES.clear();
+    }
+    
     @Test
     void ofResource_throws_IOException() throws IOException {
         URL url = when(mock(URL.class).openStream()).thenThrow(IOException.class).getMock();
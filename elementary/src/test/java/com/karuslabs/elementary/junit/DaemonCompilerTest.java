@@ -28,11 +28,13 @@ import com.karuslabs.elementary.Compiler;
 import com.karuslabs.elementary.junit.DaemonCompiler.DaemonProcessor;
 import com.karuslabs.elementary.junit.annotations.Inline;
 
-import java.io.File;
+import java.io.*;
 import java.util.*;
 import java.util.concurrent.CompletionException;
 import javax.annotation.processing.*;
 import javax.lang.model.SourceVersion;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.*;
 
 import com.sun.source.util.Trees;
 import org.junit.jupiter.api.*;
@@ -62,6 +64,93 @@ class DaemonCompilerTest {
         compiler.shutdown();
     }
 
+    @Test
+    void run_timed() throws InterruptedException {
+        var compiler = DaemonCompiler.of(javac(classes, sources), Object.class);
+        compiler.start();
+        compiler.environment();
+        
+        compiler.shutdown();
+        compiler.join();
+        
+        assertTrue(compiler.environmentTime() > 0);
+        assertTrue(compiler.wall() >= compiler.environmentTime());
+    }
+
+    @Test
+    void run_events() throws IOException {
+        var file = new File(classes, "daemon.jfr").toPath();
+        try (var recording = new Recording()) {
+            recording.enable("com.karuslabs.elementary.DaemonEnvironment");
+            recording.enable("com.karuslabs.elementary.DaemonSuspension");
+            recording.start();
+            
+            var compiler = DaemonCompiler.of(javac(classes, sources), Object.class);
+            compiler.start();
+            compiler.environment();
+            compiler.shutdown();
+            
+            recording.stop();
+            recording.dump(file);
+        }
+        
+        var events = RecordingFile.readAllEvents(file);
+        events.sort(Comparator.comparing(RecordedEvent::getStartTime));
+        
+        assertEquals(2, events.size());
+        assertEquals("com.karuslabs.elementary.DaemonEnvironment", events.get(0).getEventType().getName());
+        assertTrue(events.get(0).getBoolean("direct"));
+        assertEquals(1, events.get(0).getInt("sources"));
+        assertFalse(events.get(0).getBoolean("failed"));
+        assertEquals("com.karuslabs.elementary.DaemonSuspension", events.get(1).getEventType().getName());
+    }
+    
+    @Test
+    void run_events_failed() throws IOException {
+        var file = new File(classes, "daemon.jfr").toPath();
+        try (var recording = new Recording()) {
+            recording.enable("com.karuslabs.elementary.DaemonEnvironment");
+            recording.start();
+            
+            var compiler = DaemonCompiler.of(javac(classes, sources), DaemonCompilerTest.class);
+            compiler.start();
+            assertThrows(CompletionException.class, compiler::environment);
+            
+            recording.stop();
+            recording.dump(file);
+        }
+        
+        var events = RecordingFile.readAllEvents(file);
+        events.removeIf(event -> !event.getEventType().getName().equals("com.karuslabs.elementary.DaemonEnvironment"));
+        
+        assertEquals(1, events.size());
+        assertTrue(events.get(0).getBoolean("failed"));
+    }
+
+    @Test
+    void run_direct() {
+        var compiler = DaemonCompiler.of(javac(classes, sources), Object.class);
+        compiler.start();
+
+        assertFalse(compiler.isAlive());
+        assertNotNull(compiler.environment().trees);
+        assertEquals(0, classes.list().length);
+
+        compiler.shutdown();
+    }
+    
+    @Test
+    void run_direct_compiler_crash() {
+        var compiler = mock(Compiler.class);
+        when(compiler.processors(any(Processor[].class))).thenReturn(compiler);
+        when(compiler.task(any(List.class), any(Diagnostics.class))).thenThrow(RuntimeException.class);
+
+        var daemon = new DaemonCompiler(compiler, List.of(), true);
+        daemon.start();
+
+        assertEquals(CompilationException.class, assertThrows(CompletionException.class, daemon::environment).getCause().getClass());
+    }
+
     @Test
     void run_compiler_crash() {
         var compiler = mock(Compiler.class);
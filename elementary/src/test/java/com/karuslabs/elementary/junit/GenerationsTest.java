@@ -5,9 +5,12 @@ import org.junit.jupiter.api.*;
 import org.junit.jupiter.api.extension.ExtensionContext;
 import org.junit.jupiter.api.extension.ExtensionContext.Store;
 
-import java.io.File;
+import java.io.*;
+import java.nio.file.Files;
 import java.util.*;
 import java.util.function.Function;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.*;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -17,6 +20,14 @@ class GenerationsTest {
     StubStore store = new StubStore();
     ExtensionContext context = when(mock(ExtensionContext.class).getStore(any())).thenReturn(store).getMock();
 
+    @BeforeEach
+    void before() {
+        File directory;
+        while ((directory = Generations.POOL.poll()) != null) {
+            Generations.delete(directory);
+        }
+    }
+
     @Test
     void compiler_no_annotations() {
         doReturn(NoAnnotations.class).when(context).getRequiredTestClass();
@@ -83,11 +94,11 @@ class GenerationsTest {
         var directory = store.get(Generations.TEMP_DIRECTORY, File.class);
 
         Generations.teardown(context);
+        Generations.await();
 
         assertTrue(store.map.isEmpty());
-        assertFalse(directory.exists());
-        assertFalse((entry.getKey().exists()));
-        assertFalse((entry.getValue().exists()));
+        assertTrue(Generations.POOL.contains(directory));
+        assertTrue(Generations.clean(directory));
     }
 
     @Test
@@ -98,11 +109,11 @@ class GenerationsTest {
         var directory = store.get(Generations.TEMP_DIRECTORY, File.class);
 
         Generations.teardown(context);
+        Generations.await();
 
         assertTrue(store.map.isEmpty());
-        assertFalse(directory.exists());
-        assertFalse((compiler.getKey().exists()));
-        assertFalse((compiler.getValue().exists()));
+        assertTrue(Generations.POOL.contains(directory));
+        assertTrue(Generations.clean(directory));
     }
 
     @Test
@@ -113,11 +124,14 @@ class GenerationsTest {
         var directory = store.get(Generations.TEMP_DIRECTORY, File.class);
 
         Generations.teardown(context);
-
-        assertTrue(store.map.isEmpty());
-        assertFalse(directory.exists());
+        
         assertFalse((compiler.getKey().exists()));
         assertFalse((compiler.getValue().exists()));
+        
+        Generations.await();
+
+        assertTrue(store.map.isEmpty());
+        assertTrue(Generations.POOL.contains(directory));
     }
 
     @Test
@@ -136,12 +150,100 @@ class GenerationsTest {
     }
 
 
+    @Test
+    void take_retained() throws IOException {
+        var pooled = Generations.take("generations", false);
+        Generations.recycle(pooled);
+        
+        var directory = Generations.take("retained", true);
+        
+        assertNotEquals(pooled, directory);
+        assertTrue(directory.getName().startsWith("retained"));
+        assertTrue(Generations.POOL.contains(pooled));
+        
+        Generations.delete(directory);
+    }
+    
+    @Test
+    void take_recycled() throws IOException {
+        var directory = Generations.take("generations", false);
+        Generations.recycle(directory);
+        
+        assertSame(directory, Generations.take("generations", false));
+        
+        Generations.delete(directory);
+    }
+    
+    @Test
+    void take_recycle_events() throws IOException {
+        var file = Files.createTempFile("generations", ".jfr");
+        File directory;
+        try (var recording = new Recording()) {
+            recording.enable("com.karuslabs.elementary.Generation");
+            recording.start();
+            
+            directory = Generations.take("generations", false);
+            Generations.recycle(directory);
+            
+            recording.stop();
+            recording.dump(file);
+        }
+        
+        var events = RecordingFile.readAllEvents(file);
+        events.sort(Comparator.comparing(RecordedEvent::getStartTime));
+        Files.delete(file);
+        
+        assertEquals(2, events.size());
+        assertEquals("take", events.get(0).getString("operation"));
+        assertEquals(directory.getPath(), events.get(0).getString("directory"));
+        assertFalse(events.get(0).getBoolean("pooled"));
+        assertEquals("recycle", events.get(1).getString("operation"));
+        assertTrue(events.get(1).getBoolean("pooled"));
+    }
+    
+    @Test
+    void take_discards_unclean() throws IOException {
+        var directory = Generations.take("generations", false);
+        new File(directory, "generated-classes/Stale.class").createNewFile();
+        Generations.POOL.offer(directory);
+        
+        var taken = Generations.take("generations", false);
+        Generations.await();
+        
+        assertNotEquals(directory, taken);
+        assertFalse(directory.exists());
+        
+        Generations.delete(taken);
+    }
+    
+    @Test
+    void recycle_full() throws IOException {
+        var directories = new ArrayList<File>();
+        for (int i = 0; i <= Generations.CAPACITY; i++) {
+            directories.add(Generations.take("generations", false));
+        }
+        
+        directories.forEach(Generations::recycle);
+        
+        assertEquals(Generations.CAPACITY, Generations.POOL.size());
+        assertFalse(directories.get(Generations.CAPACITY).exists());
+    }
+
+
     @AfterEach
     void after() {
         new File("path/to/classes").delete();
         new File("path/to/sources").delete();
 
-        ((File) store.lifetime.get(Generations.TEMP_DIRECTORY)).delete();
+        var directory = (File) store.lifetime.get(Generations.TEMP_DIRECTORY);
+        if (directory != null) {
+            Generations.delete(directory);
+        }
+        
+        File pooled;
+        while ((pooled = Generations.POOL.poll()) != null) {
+            Generations.delete(pooled);
+        }
     }
 
 }
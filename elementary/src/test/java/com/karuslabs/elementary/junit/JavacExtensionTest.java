@@ -23,12 +23,13 @@
  */
 package com.karuslabs.elementary.junit;
 
-import com.karuslabs.elementary.Results;
+import com.karuslabs.elementary.*;
 import com.karuslabs.elementary.junit.annotations.*;
 
 import java.io.*;
 import java.nio.file.Paths;
-import java.util.Set;
+import java.util.*;
+import java.util.concurrent.*;
 import javax.annotation.processing.*;
 import javax.lang.model.SourceVersion;
 import javax.lang.model.element.TypeElement;
@@ -40,6 +41,7 @@ import org.junit.jupiter.api.extension.*;
 import org.junit.jupiter.api.io.TempDir;
 
 import static com.karuslabs.elementary.Compiler.javac;
+import static com.karuslabs.elementary.file.FileObjects.*;
 import static org.junit.jupiter.api.Assertions.*;
 
 @Processors(InvalidProcessor.class)
@@ -65,6 +67,74 @@ class JavacExtensionTest {
     
 }
 
+class FixturesTest {
+    
+    @Test
+    void compile() {
+        var directory = Fixtures.compile(List.of(ofClass("com.karuslabs.elementary.junit.example.ValidCase")), List.of());
+        
+        assertTrue(new File(directory, "ValidCase.class").isFile());
+        assertSame(directory, Fixtures.compile(List.of(ofClass("com.karuslabs.elementary.junit.example.ValidCase")), List.of()));
+    }
+    
+    @Test
+    void compile_options() {
+        var files = List.of(ofClass("com.karuslabs.elementary.junit.example.ValidCase"));
+        var directory = Fixtures.compile(files, List.of("-g"));
+        
+        assertNotSame(directory, Fixtures.compile(files, List.of()));
+        assertSame(directory, Fixtures.compile(files, List.of("-g")));
+    }
+    
+    @Test
+    void compile_concurrent() throws InterruptedException, ExecutionException {
+        var files = List.of(ofLines("Concurrent", "class Concurrent {}"));
+        var pool = Executors.newFixedThreadPool(4);
+        try {
+            var futures = new ArrayList<Future<File>>();
+            for (int i = 0; i < 4; i++) {
+                futures.add(pool.submit(() -> Fixtures.compile(files, List.of())));
+            }
+            
+            for (var future : futures) {
+                assertSame(futures.get(0).get(), future.get());
+            }
+            
+        } finally {
+            pool.shutdown();
+        }
+    }
+    
+    @Test
+    void compile_invalid() {
+        assertThrows(CompilationException.class, () -> Fixtures.compile(List.of(ofLines("Invalid", "class Invalid {")), List.of()));
+    }
+    
+}
+
+
+@ExtendWith(JavacExtension.class)
+@Precompile
+@Classpath("com.karuslabs.elementary.junit.example.ValidCase")
+class PrecompileTest {
+    
+    @Test
+    @Inline(name = "Usage", source = "class Usage { ValidCase a; }")
+    void precompile(Results results) {
+        assertTrue(results.errors.isEmpty());
+        assertEquals(1, results.sources.size());
+        assertEquals(Set.of("Usage"), results.classes.keySet());
+    }
+    
+    @Test
+    void precompile_dummy(Results results) {
+        assertTrue(results.errors.isEmpty());
+        assertSame(DUMMY, results.sources.get(0));
+    }
+    
+}
+
+
 class InvalidProcessor extends AbstractProcessor {
 
     InvalidProcessor(String a) {}
@@ -0,0 +1,130 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2026 Karus Labs.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.karuslabs.elementary.junit;
+
+import java.io.*;
+import java.nio.file.Files;
+import java.util.*;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.ExtensionContext.*;
+import org.junit.jupiter.api.io.TempDir;
+
+import static com.karuslabs.elementary.Compiler.javac;
+import static com.karuslabs.elementary.file.FileObjects.ofLines;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class ProfilerTest {
+    
+    @TempDir
+    File directory;
+    ExtensionContext context = mock(ExtensionContext.class);
+    
+    @Test
+    void of_disabled() {
+        when(context.getConfigurationParameter(Profiler.ENABLED)).thenReturn(Optional.empty());
+        
+        assertNull(Profiler.of(context));
+    }
+    
+    @Test
+    void of_enabled() {
+        var root = mock(ExtensionContext.class);
+        var store = mock(Store.class);
+        var profiler = new Profiler(directory);
+        
+        when(context.getConfigurationParameter(Profiler.ENABLED)).thenReturn(Optional.of("true"));
+        when(context.getConfigurationParameter(Profiler.DIRECTORY)).thenReturn(Optional.empty());
+        when(context.getRoot()).thenReturn(root);
+        when(root.getStore(Namespace.create(Profiler.class))).thenReturn(store);
+        when(store.getOrComputeIfAbsent(eq(Profiler.class), any(), eq(Profiler.class))).thenReturn(profiler);
+        
+        assertSame(profiler, Profiler.of(context));
+    }
+    
+    @Test
+    void name() throws NoSuchMethodException {
+        doReturn(ProfilerTest.class).when(context).getRequiredTestClass();
+        when(context.getTestMethod()).thenReturn(Optional.of(ProfilerTest.class.getDeclaredMethod("name")));
+        
+        assertEquals("com.karuslabs.elementary.junit.ProfilerTest#name", Profiler.name(context));
+    }
+    
+    @Test
+    void name_class() {
+        doReturn(ProfilerTest.class).when(context).getRequiredTestClass();
+        when(context.getTestMethod()).thenReturn(Optional.empty());
+        
+        assertEquals("com.karuslabs.elementary.junit.ProfilerTest", Profiler.name(context));
+    }
+    
+    @Test
+    void bytes() {
+        assertEquals(14, Profiler.bytes(List.of(ofLines("A", "class A {}"), ofLines("B", "//é"))));
+    }
+    
+    @Test
+    void record() {
+        doReturn(ProfilerTest.class).when(context).getRequiredTestClass();
+        when(context.getTestMethod()).thenReturn(Optional.empty());
+        
+        var profiler = new Profiler(directory);
+        profiler.record(context, "JavacExtension", javac(directory, directory).classpath(List.of(directory)), List.of(ofLines("A", "class A {}")), 5_000_000, Profiler.UNKNOWN);
+        
+        var sample = profiler.samples.peek();
+        assertEquals("com.karuslabs.elementary.junit.ProfilerTest", sample.test);
+        assertEquals(1, sample.sources);
+        assertEquals(10, sample.bytes);
+        assertEquals(1, sample.classpath);
+        assertEquals(0, sample.processors);
+    }
+    
+    @Test
+    void close() throws IOException {
+        var profiler = new Profiler(new File(directory, "reports"));
+        profiler.samples.add(new Profiler.Sample("Fast", "JavacExtension", 1_000_000, 1, 10, 2, 0, Profiler.UNKNOWN));
+        profiler.samples.add(new Profiler.Sample("Slow\"", "ToolsExtension", 3_500_000, 2, 20, 3, 1, 2_000_000));
+        
+        profiler.close();
+        
+        assertEquals(
+            "test,extension,wall_ms,sources,bytes,classpath,processors,environment_ms\n" +
+            "\"Slow\"\"\",ToolsExtension,3.500,2,20,3,1,2.000\n" +
+            "\"Fast\",JavacExtension,1.000,1,10,2,0,\n",
+            Files.readString(directory.toPath().resolve("reports/elementary-profile.csv"), UTF_8)
+        );
+        
+        assertEquals(
+            "[\n" +
+            "  {\"test\": \"Slow\\\"\", \"extension\": \"ToolsExtension\", \"wall_ms\": 3.500, \"sources\": 2, \"bytes\": 20, \"classpath\": 3, \"processors\": 1, \"environment_ms\": 2.000},\n" +
+            "  {\"test\": \"Fast\", \"extension\": \"JavacExtension\", \"wall_ms\": 1.000, \"sources\": 1, \"bytes\": 10, \"classpath\": 2, \"processors\": 0, \"environment_ms\": null}\n" +
+            "]\n",
+            Files.readString(directory.toPath().resolve("reports/elementary-profile.json"), UTF_8)
+        );
+    }
+    
+}
@@ -91,6 +91,17 @@ public interface Assertion<T> {
      */
     Result test(T value, TypeMirrors types);
     
+    /**
+     * Returns an {@code Assertion} which evaluations of this assertion are emitted
+     * as JDK Flight Recorder events. It is typically applied to only the top-level 
+     * assertion.
+     * 
+     * @return a recorded assertion
+     */
+    default Assertion<T> recorded() {
+        return Recorded.of(this);
+    }
+    
     /**
      * Returns a composed {@code Assertion} that represents a non-short-circuiting
      * logical AND of this assertion and {@code others}.
@@ -99,7 +110,20 @@ public interface Assertion<T> {
      * @return a composed predicate that represents a non-short-circuiting logical AND
      */
     default Assertion<T> and(Assertion<T>... others) {
-        return And.of(this, others);
+        return And.of(false, this, others);
+    }
+    
+    /**
+     * Returns a composed {@code Assertion} that represents a short-circuiting
+     * logical AND of this assertion and {@code others}. Evaluation stops at the
+     * first assertion that fails. The {@code Result} of the composed assertion
+     * consequently only contains the results of the evaluated assertions.
+     * 
+     * @param others the predicates will be logically-ANDed with this predicate
+     * @return a composed predicate that represents a short-circuiting logical AND
+     */
+    default Assertion<T> conditionalAnd(Assertion<T>... others) {
+        return And.of(true, this, others);
     }
     
     /**
@@ -110,7 +134,20 @@ public interface Assertion<T> {
      * @return a composed predicate that represents a non-short-circuiting logical OR
      */
     default Assertion<T> or(Assertion<T>... others) {
-        return Or.of(this, others);
+        return Or.of(false, this, others);
+    }
+    
+    /**
+     * Returns a composed {@code Assertion} that represents a short-circuiting
+     * logical OR of this assertion and {@code others}. Evaluation stops at the
+     * first assertion that succeeds. The {@code Result} of the composed assertion
+     * consequently only contains the results of the evaluated assertions.
+     * 
+     * @param others the predicates will be logically-ORed with this predicate
+     * @return a composed predicate that represents a short-circuiting logical OR
+     */
+    default Assertion<T> conditionalOr(Assertion<T>... others) {
+        return Or.of(true, this, others);
     }
     
 }
\ No newline at end of file
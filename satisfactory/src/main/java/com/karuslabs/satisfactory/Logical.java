@@ -54,34 +54,38 @@ record Not<T>(Assertion<T> negation) implements Assertion<T> {
 }
 
 /**
- * Represents a non-short-circuiting logical AND of the given assertions.
+ * Represents a logical AND of the given assertions. If {@code conditional} is
+ * {@code true}, evaluation stops at the first operand that fails; otherwise all
+ * operands are evaluated.
  */
-record And<T>(Assertion<T>... operands) implements Assertion<T> {
+record And<T>(boolean conditional, Assertion<T>... operands) implements Assertion<T> {
     
     /**
-     * Returns a composed {@code Assertion} that represents a non-short-circuiting
-     * logical AND of {@code left} and {@code others}.
+     * Returns a composed {@code Assertion} that represents a logical AND of 
+     * {@code left} and {@code others}.
      * 
-     * @param others the predicates will be logically-ANDed with this predicate
-     * @return a composed predicate that represents a non-short-circuiting logical AND
+     * @param conditional whether the composed assertion short-circuits
+     * @param left the first predicate
+     * @param right the predicates will be logically-ANDed with {@code left}
+     * @return a composed predicate that represents a logical AND
      */
-    static <T> Assertion<T> of(Assertion<T> left, Assertion<T>... right) {
+    static <T> Assertion<T> of(boolean conditional, Assertion<T> left, Assertion<T>... right) {
         var assertions = new ArrayList<Assertion<T>>();
         for (var assertion : concat(left, right)) {
-            if (assertion instanceof And) {
-                Collections.addAll(assertions, ((And<T>) assertion).operands());
+            if (assertion instanceof And<T> and && and.conditional() == conditional) {
+                Collections.addAll(assertions, and.operands());
                 
             } else {
                 assertions.add(assertion);
             }
         }
         
-        return new And<>(assertions.toArray(Assertion[]::new));
+        return new And<>(conditional, assertions.toArray(Assertion[]::new));
     }
     
     @Override
     public Result test(T value, TypeMirrors types) {
-        var results = new ArrayList<Result>(operands.length);
+        var results = new ArrayList<Result>(conditional ? 1 : operands.length);
         var success = true;
         
         for (var operand : operands) {
@@ -96,6 +100,10 @@ record And<T>(Assertion<T>... operands) implements Assertion<T> {
             }
             
             results.add(result);
+            
+            if (!success && conditional) {
+                break;
+            }
         }
         
         return new Result.And(results, success);
@@ -103,34 +111,38 @@ record And<T>(Assertion<T>... operands) implements Assertion<T> {
 }
 
 /**
- * Represents a non-short-circuiting logical OR of the given assertions.
+ * Represents a logical OR of the given assertions. If {@code conditional} is
+ * {@code true}, evaluation stops at the first operand that succeeds; otherwise 
+ * all operands are evaluated.
  */
-record Or<T>(Assertion<T>... operands) implements Assertion<T> {
+record Or<T>(boolean conditional, Assertion<T>... operands) implements Assertion<T> {
     
     /**
-     * Returns a composed {@code Assertion} that represents a non-short-circuiting
-     * logical OR of this assertion and {@code others}.
+     * Returns a composed {@code Assertion} that represents a logical OR of 
+     * {@code left} and {@code others}.
      * 
-     * @param others the predicates will be logically-ORed with this predicate
-     * @return a composed predicate that represents a non-short-circuiting logical OR
+     * @param conditional whether the composed assertion short-circuits
+     * @param left the first predicate
+     * @param right the predicates will be logically-ORed with {@code left}
+     * @return a composed predicate that represents a logical OR
      */
-    static <T> Assertion<T> of(Assertion<T> left, Assertion<T>... right) {
+    static <T> Assertion<T> of(boolean conditional, Assertion<T> left, Assertion<T>... right) {
         var assertions = new ArrayList<Assertion<T>>();
         for (var assertion : concat(left, right)) {
-            if (assertion instanceof Or) {
-                Collections.addAll(assertions, ((Or<T>) assertion).operands());
+            if (assertion instanceof Or<T> or && or.conditional() == conditional) {
+                Collections.addAll(assertions, or.operands());
                 
             } else {
                 assertions.add(assertion);
             }
         }
         
-        return new Or<>(assertions.toArray(Assertion[]::new));
+        return new Or<>(conditional, assertions.toArray(Assertion[]::new));
     }
     
     @Override
     public Result test(T value, TypeMirrors types) {
-        var results = new ArrayList<Result>(operands.length);
+        var results = new ArrayList<Result>(conditional ? 1 : operands.length);
         var success = false;
         
         for (var operand : operands) {
@@ -145,6 +157,10 @@ record Or<T>(Assertion<T>... operands) implements Assertion<T> {
             }
             
             results.add(result);
+            
+            if (success && conditional) {
+                break;
+            }
         }
         
         return new Result.Or(results, success);
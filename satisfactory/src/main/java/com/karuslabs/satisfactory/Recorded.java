@@ -0,0 +1,64 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2026 Karus Labs.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.karuslabs.satisfactory;
+
+import com.karuslabs.utilitary.type.TypeMirrors;
+
+/**
+ * Represents an assertion which evaluations are emitted as JDK Flight Recorder 
+ * events.
+ */
+record Recorded<T>(Assertion<T> assertion) implements Assertion<T> {
+    
+    /**
+     * Returns an assertion which evaluations of the given assertion are emitted
+     * as JDK Flight Recorder events.
+     * 
+     * @param <T> the type of the value to be asserted
+     * @param assertion the assertion to be recorded
+     * @return a recorded assertion
+     */
+    static <T> Assertion<T> of(Assertion<T> assertion) {
+        return assertion instanceof Recorded ? assertion : new Recorded<>(assertion);
+    }
+    
+    @Override
+    public Result test(T value, TypeMirrors types) {
+        var event = new AssertionEvent();
+        event.begin();
+        
+        var result = assertion.test(value, types);
+        
+        event.end();
+        if (event.shouldCommit()) {
+            event.assertion = assertion.getClass().getName();
+            event.value = String.valueOf(value);
+            event.success = result.success();
+            event.commit();
+        }
+        
+        return result;
+    }
+    
+}
@@ -28,9 +28,12 @@ import com.karuslabs.satisfactory.ast.Type.Relation;
 
 import java.util.*;
 import java.util.Map.Entry;
+import java.util.function.Supplier;
 import javax.lang.model.element.*;
 import javax.lang.model.type.*;
 
+import org.checkerframework.checker.nullness.qual.Nullable;
+
 /**
  * The results of an {@code Assertion}. Like {@code Assertion}s, {@code Result}s
  * can be combined to describe the results of a complex assertion. 
@@ -52,6 +55,22 @@ public sealed interface Result {
      */
     static final Result FALSE = new Constant(false);
     
+    /**
+     * Returns a {@code Result} which defers evaluating an assertion until either 
+     * its success is queried or it is visited.
+     * 
+     * Composite assertions stop evaluating nested assertions once one fails, since
+     * the outcome is already known. The remaining nested assertions are wrapped in
+     * a {@code Result} returned by this method so that they are only evaluated if 
+     * required, i.e. to render a failure message.
+     * 
+     * @param result a supplier that evaluates an assertion, invoked at most once
+     * @return a lazily evaluated {@code Result}
+     */
+    static Result lazy(Supplier<? extends Result> result) {
+        return new Lazy(result);
+    }
+    
     /**
      * Applies a visitor to this {@code Result}.
      * 
@@ -216,6 +235,60 @@ public sealed interface Result {
         }
     }
     
+    /**
+     * A {@code Result} which evaluates an assertion the first time it is used. 
+     * A visitor applied to a {@code Lazy} is forwarded to the evaluated {@code Result}.
+     */
+    static final class Lazy implements Result {
+        
+        private @Nullable Supplier<? extends Result> supplier;
+        private volatile @Nullable Result result;
+        
+        Lazy(Supplier<? extends Result> supplier) {
+            this.supplier = supplier;
+        }
+        
+        @Override
+        public <T, R> R accept(Visitor<T, R> visitor, T value) {
+            return get().accept(visitor, value);
+        }
+        
+        @Override
+        public boolean success() {
+            return get().success();
+        }
+        
+        /**
+         * Returns the evaluated {@code Result}, evaluating it if necessary.
+         * 
+         * @return the evaluated {@code Result}
+         */
+        public Result get() {
+            var result = this.result;
+            if (result == null) {
+                synchronized (this) {
+                    result = this.result;
+                    if (result == null) {
+                        this.result = result = supplier.get();
+                        supplier = null;
+                    }
+                }
+            }
+            
+            return result;
+        }
+        
+        /**
+         * Returns whether the assertion has been evaluated.
+         * 
+         * @return {@code true} if the assertion has been evaluated
+         */
+        public boolean evaluated() {
+            return result != null;
+        }
+        
+    }
+    
     static record Constant(boolean success) implements Result {
         @Override
         public <T, R> R accept(Visitor<T, R> visitor, T value) {
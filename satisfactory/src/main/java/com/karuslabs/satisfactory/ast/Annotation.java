@@ -24,17 +24,24 @@
 package com.karuslabs.satisfactory.ast;
 
 import com.karuslabs.satisfactory.*;
+import com.karuslabs.satisfactory.sequence.Keyed;
 import com.karuslabs.satisfactory.sequence.Sequence.Unordered;
 import com.karuslabs.utilitary.type.TypeMirrors;
 
 import java.util.Map.Entry;
+import java.util.function.Function;
 import javax.lang.model.element.*;
 import javax.lang.model.type.TypeMirror;
 
+import org.checkerframework.checker.nullness.qual.Nullable;
+
 /**
- * Represents an assertion on an annotation.
+ * Represents an assertion on an annotation. An annotation created via 
+ * {@link #annotation(Class)} is keyed by the qualified name of its type.
  */
-public class Annotation implements Assertion<AnnotationMirror> {
+public class Annotation implements Keyed<AnnotationMirror> {
+    
+    static final Function<AnnotationMirror, String> TYPE = annotation -> ((TypeElement) annotation.getAnnotationType().asElement()).getQualifiedName().toString();
 
     /**
      * An assertion on an annotation that always returns true.
@@ -49,11 +56,12 @@ public class Annotation implements Assertion<AnnotationMirror> {
      * @return an assertion on an annotation
      */
     public static Annotation annotation(Class<? extends java.lang.annotation.Annotation> type) {
-        return new Annotation(Type.equal(type), Unordered.any());
+        return new Annotation(Type.equal(type), Unordered.any(), type.getCanonicalName());
     }
     
     private final Assertion<TypeMirror> type;
     private final Unordered<Entry<? extends ExecutableElement, ? extends AnnotationValue>> values; 
+    private final @Nullable String key;
     
     /**
      * Creates an {@code Annotation} with the given parameters.
@@ -62,14 +70,29 @@ public class Annotation implements Assertion<AnnotationMirror> {
      * @param values the expected values of an annotation
      */
     public Annotation(Assertion<TypeMirror> type, Unordered<Entry<? extends ExecutableElement, ? extends AnnotationValue>> values) {
+        this(type, values, null);
+    }
+    
+    Annotation(Assertion<TypeMirror> type, Unordered<Entry<? extends ExecutableElement, ? extends AnnotationValue>> values, @Nullable String key) {
         this.type = type;
         this.values = values;
+        this.key = key;
+    }
+    
+    @Override
+    public Function<AnnotationMirror, String> classifier() {
+        return TYPE;
+    }
+    
+    @Override
+    public @Nullable Object key() {
+        return key;
     }
     
     @Override
     public Result test(AnnotationMirror annotation, TypeMirrors types) {
         var type = this.type.test(annotation.getAnnotationType(), types);
-        var values = this.values.test(annotation.getElementValues().entrySet(), types);
+        var values = type.success() ? this.values.test(annotation.getElementValues().entrySet(), types) : Result.lazy(() -> this.values.test(annotation.getElementValues().entrySet(), types));
         return new Result.AST.Annotation(annotation, type, values, type.success() && values.success());
     }
 
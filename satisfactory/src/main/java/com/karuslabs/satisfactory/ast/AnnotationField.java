@@ -24,12 +24,27 @@
 package com.karuslabs.satisfactory.ast;
 
 import com.karuslabs.satisfactory.*;
+import com.karuslabs.satisfactory.sequence.Keyed;
 import com.karuslabs.utilitary.type.TypeMirrors;
 
 import java.util.Map.Entry;
+import java.util.function.Function;
 import javax.lang.model.element.*;
 
-public record AnnotationField(String name, Assertion<Object> literal) implements Assertion<Entry<? extends ExecutableElement, ? extends AnnotationValue>> {
+public record AnnotationField(String name, Assertion<Object> literal) implements Keyed<Entry<? extends ExecutableElement, ? extends AnnotationValue>> {
+    
+    static final Function<Entry<? extends ExecutableElement, ? extends AnnotationValue>, String> NAME = entry -> entry.getKey().getSimpleName().toString();
+    
+    @Override
+    public Function<Entry<? extends ExecutableElement, ? extends AnnotationValue>, String> classifier() {
+        return NAME;
+    }
+    
+    @Override
+    public Object key() {
+        return name;
+    }
+    
     @Override
     public Result test(Entry<? extends ExecutableElement, ? extends AnnotationValue> entry, TypeMirrors types) {
         var value = literal.test(entry.getValue().getValue(), types);
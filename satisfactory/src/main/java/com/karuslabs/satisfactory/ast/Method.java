@@ -24,26 +24,37 @@
 package com.karuslabs.satisfactory.ast;
 
 import com.karuslabs.satisfactory.*;
+import com.karuslabs.satisfactory.sequence.Keyed;
 import com.karuslabs.satisfactory.sequence.Sequence.*;
 import com.karuslabs.utilitary.type.TypeMirrors;
-import java.util.function.Supplier;
 
+import java.util.function.*;
 import javax.lang.model.element.*;
 import javax.lang.model.type.TypeMirror;
 
-public class Method implements Assertion<ExecutableElement> {
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Represents an assertion on a method. An assertion whose name is given as a 
+ * string is keyed by that name.
+ */
+public class Method implements Keyed<ExecutableElement> {
+    
+    static final Function<ExecutableElement, String> NAME = element -> element.getSimpleName().toString();
     
     private final Ordered<AnnotationMirror> annotations;
     private final Unordered<Modifier> modifiers;
     private final Ordered<TypeMirror> generics;
     private final Assertion<TypeMirror> type;
     private final Assertion<String> name;
+    private final @Nullable String key;
     private final Ordered<VariableElement> parameters;
     private final Ordered<TypeMirror> thrown;
     
     Method(
         Ordered<AnnotationMirror> annotations, Unordered<Modifier> modifiers, Ordered<TypeMirror> generics,
-        Assertion<TypeMirror> type, Assertion<String> name, Ordered<VariableElement> parameters, Ordered<TypeMirror> thrown
+        Assertion<TypeMirror> type, Assertion<String> name, Ordered<VariableElement> parameters, Ordered<TypeMirror> thrown,
+        @Nullable String key
     ) {
         this.annotations = annotations;
         this.modifiers = modifiers;
@@ -52,17 +63,41 @@ public class Method implements Assertion<ExecutableElement> {
         this.name = name;
         this.parameters = parameters;
         this.thrown = thrown;
+        this.key = key;
+    }
+    
+    @Override
+    public Function<ExecutableElement, String> classifier() {
+        return NAME;
+    }
+    
+    @Override
+    public @Nullable Object key() {
+        return key;
     }
     
     @Override
     public Result test(ExecutableElement executable, TypeMirrors types) {
-        var annotations = this.annotations.test(executable.getAnnotationMirrors(), types);
-        var modifiers = this.modifiers.test(executable.getModifiers(), types);
-        var generics = this.generics.test(executable.getTypeParameters().stream().map(TypeParameterElement::asType).toList(), types);
-        var type = this.type.test(executable.asType(), types);
         var name = this.name.test(executable.getSimpleName().toString(), types);
-        var parameters = this.parameters.test(executable.getParameters(), types);
-        var thrown = this.thrown.test(executable.getThrownTypes(), types);
+        var success = name.success();
+        
+        var modifiers = success ? this.modifiers.test(executable.getModifiers(), types) : Result.lazy(() -> this.modifiers.test(executable.getModifiers(), types));
+        success = success && modifiers.success();
+        
+        var type = success ? this.type.test(executable.asType(), types) : Result.lazy(() -> this.type.test(executable.asType(), types));
+        success = success && type.success();
+        
+        var parameters = success ? this.parameters.test(executable.getParameters(), types) : Result.lazy(() -> this.parameters.test(executable.getParameters(), types));
+        success = success && parameters.success();
+        
+        var annotations = success ? this.annotations.test(executable.getAnnotationMirrors(), types) : Result.lazy(() -> this.annotations.test(executable.getAnnotationMirrors(), types));
+        success = success && annotations.success();
+        
+        var generics = success ? generics(executable, types) : Result.lazy(() -> generics(executable, types));
+        success = success && generics.success();
+        
+        var thrown = success ? this.thrown.test(executable.getThrownTypes(), types) : Result.lazy(() -> this.thrown.test(executable.getThrownTypes(), types));
+        success = success && thrown.success();
         
         return new Result.AST.Method(
             executable, 
@@ -73,11 +108,14 @@ public class Method implements Assertion<ExecutableElement> {
             name,
             parameters,
             thrown,
-            annotations.success() && modifiers.success() && generics.success() && type.success() && 
-            name.success() && parameters.success() && thrown.success()
+            success
         );
     }
     
+    Result generics(ExecutableElement executable, TypeMirrors types) {
+        return this.generics.test(executable.getTypeParameters().stream().map(TypeParameterElement::asType).toList(), types);
+    }
+    
     public static class Builder implements Supplier<Method> {
 
         private Ordered<AnnotationMirror> annotations = Ordered.any();
@@ -87,6 +125,7 @@ public class Method implements Assertion<ExecutableElement> {
         private Assertion<String> name = Assertion.any();
         private Ordered<VariableElement> parameters;
         private Ordered<TypeMirror> thrown;
+        private @Nullable String key;
         
         public Builder annotations(Ordered<AnnotationMirror> annotations) {
             this.annotations = annotations;
@@ -110,6 +149,13 @@ public class Method implements Assertion<ExecutableElement> {
         
         public Builder name(Assertion<String> name) {
             this.name = name;
+            this.key = null;
+            return this;
+        }
+        
+        public Builder name(String name) {
+            this.name = Assertion.equal(name);
+            this.key = name;
             return this;
         }
         
@@ -125,7 +171,7 @@ public class Method implements Assertion<ExecutableElement> {
         
         @Override
         public Method get() {
-            return new Method(annotations, modifiers, generics, type, name, parameters, thrown);
+            return new Method(annotations, modifiers, generics, type, name, parameters, thrown, key);
         }
         
     }
@@ -30,8 +30,6 @@ import java.util.*;
 import java.util.stream.Stream;
 import javax.lang.model.type.*;
 
-import org.checkerframework.checker.nullness.qual.Nullable;
-
 import static com.karuslabs.satisfactory.ast.Type.Relation.*;
 
 public sealed abstract class Type implements Assertion<TypeMirror> {
@@ -100,15 +98,16 @@ public sealed abstract class Type implements Assertion<TypeMirror> {
     
     @Override
     public Result test(TypeMirror actual, TypeMirrors types) {
+        var expected = expected(types);
         var success = true;
-        for (var type : expected(types)) {
+        for (var type : expected) {
             if (!relation.test(actual, type, types)) {
                 success = false;
                 break;
             }
         }
 
-        return new Result.AST.Type(actual, relation, expected(types), success);
+        return new Result.AST.Type(actual, relation, expected, success);
     }
     
     abstract List<TypeMirror> expected(TypeMirrors types);
@@ -118,7 +117,7 @@ public sealed abstract class Type implements Assertion<TypeMirror> {
 final class ClassType extends Type {
 
     final Class<?>[] classes;
-    @Nullable List<TypeMirror> expected;
+    final Map<TypeMirrors, List<TypeMirror>> expected = Collections.synchronizedMap(new WeakHashMap<>());
     
     ClassType(Relation relation, Class<?>... classes) {
         super(relation);
@@ -127,11 +126,13 @@ final class ClassType extends Type {
     
     @Override
     List<TypeMirror> expected(TypeMirrors types) {
-        if (expected == null) {
-            expected = Stream.of(classes).map(type -> types.type(type)).toList();
+        var mirrors = expected.get(types);
+        if (mirrors == null) {
+            mirrors = Stream.of(classes).map(type -> types.type(type)).toList();
+            expected.putIfAbsent(types, mirrors);
         }
         
-        return expected;
+        return mirrors;
     }
     
 }
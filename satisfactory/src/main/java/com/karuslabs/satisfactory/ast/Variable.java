@@ -24,14 +24,23 @@
 package com.karuslabs.satisfactory.ast;
 
 import com.karuslabs.satisfactory.*;
+import com.karuslabs.satisfactory.sequence.Keyed;
 import com.karuslabs.satisfactory.sequence.Sequence.*;
 import com.karuslabs.utilitary.type.TypeMirrors;
 
-import java.util.function.Supplier;
+import java.util.function.*;
 import javax.lang.model.element.*;
 import javax.lang.model.type.TypeMirror;
 
-public class Variable implements Assertion<VariableElement> {
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Represents an assertion on a variable. An assertion whose name is given as a 
+ * string is keyed by that name.
+ */
+public class Variable implements Keyed<VariableElement> {
+    
+    static final Function<VariableElement, String> NAME = element -> element.getSimpleName().toString();
 
     public static Builder variable() {
         return new Builder();
@@ -41,20 +50,39 @@ public class Variable implements Assertion<VariableElement> {
     private final Unordered<Modifier> modifiers;
     private final Assertion<TypeMirror> type;
     private final Assertion<String> name;
+    private final @Nullable String key;
     
-    Variable(Ordered<AnnotationMirror> annotations, Unordered<Modifier> modifiers, Assertion<TypeMirror> type, Assertion<String> name) {
+    Variable(Ordered<AnnotationMirror> annotations, Unordered<Modifier> modifiers, Assertion<TypeMirror> type, Assertion<String> name, @Nullable String key) {
         this.annotations = annotations;
         this.modifiers = modifiers;
         this.type = type;
         this.name = name;
+        this.key = key;
+    }
+    
+    @Override
+    public Function<VariableElement, String> classifier() {
+        return NAME;
+    }
+    
+    @Override
+    public @Nullable Object key() {
+        return key;
     }
 
     @Override
     public Result test(VariableElement variable, TypeMirrors types) {
-        var annotations = this.annotations.test(variable.getAnnotationMirrors(), types);
-        var modifiers = this.modifiers.test(variable.getModifiers(), types);
-        var type = this.type.test(variable.asType(), types);
         var name = this.name.test(variable.getSimpleName().toString(), types);
+        var success = name.success();
+        
+        var modifiers = success ? this.modifiers.test(variable.getModifiers(), types) : Result.lazy(() -> this.modifiers.test(variable.getModifiers(), types));
+        success = success && modifiers.success();
+        
+        var type = success ? this.type.test(variable.asType(), types) : Result.lazy(() -> this.type.test(variable.asType(), types));
+        success = success && type.success();
+        
+        var annotations = success ? this.annotations.test(variable.getAnnotationMirrors(), types) : Result.lazy(() -> this.annotations.test(variable.getAnnotationMirrors(), types));
+        success = success && annotations.success();
         
         return new Result.AST.Variable(
             variable, 
@@ -62,7 +90,7 @@ public class Variable implements Assertion<VariableElement> {
             modifiers, 
             type, 
             name, 
-            annotations.success() && modifiers.success() && type.success() && name.success()
+            success
         );
     }
     
@@ -72,6 +100,7 @@ public class Variable implements Assertion<VariableElement> {
         private Unordered<Modifier> modifiers = Unordered.any();
         private Assertion<TypeMirror> type = Assertion.any();
         private Assertion<String> name = Assertion.any();
+        private @Nullable String key;
         
         public Builder annotations(Ordered<AnnotationMirror> annotations) {
             this.annotations = annotations;
@@ -90,12 +119,19 @@ public class Variable implements Assertion<VariableElement> {
         
         public Builder name(Assertion<String> name) {
             this.name = name;
+            this.key = null;
+            return this;
+        }
+        
+        public Builder name(String name) {
+            this.name = Assertion.equal(name);
+            this.key = name;
             return this;
         }
         
         @Override
         public Variable get() {
-            return new Variable(annotations, modifiers, type, name);
+            return new Variable(annotations, modifiers, type, name, key);
         }
         
     }
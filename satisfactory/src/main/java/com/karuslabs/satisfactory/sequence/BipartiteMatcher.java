@@ -0,0 +1,173 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2026 Karus Labs.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.karuslabs.satisfactory.sequence;
+
+import java.util.Arrays;
+
+/**
+ * An allocation-light implementation of the Hopcroft-Karp maximum cardinality 
+ * bipartite matching algorithm. 
+ * 
+ * Vertices are represented by their indexes and edges by an adjacency list of 
+ * {@code int[]}s. Unlike general-purpose graph libraries, no vertex or edge 
+ * objects are created. The matching runs in O(E√V) time.
+ */
+final class BipartiteMatcher {
+    
+    /**
+     * Denotes a vertex that is not matched.
+     */
+    static final int UNMATCHED = -1;
+    
+    private static final int INFINITY = Integer.MAX_VALUE;
+    
+    /**
+     * Computes a maximum matching between the left and right vertices of a bipartite
+     * graph.
+     * 
+     * @param adjacency the indexes of the right vertices adjacent to each left vertex
+     * @param right the number of right vertices
+     * @return the index of the right vertex matched to each left vertex, or {@link #UNMATCHED}
+     */
+    static int[] match(int[][] adjacency, int right) {
+        return new BipartiteMatcher(adjacency, right).match();
+    }
+    
+    private final int[][] adjacency;
+    private final int[] left;
+    private final int[] right;
+    private final int[] distances;
+    private final int[] next;
+    private final int[] queue;
+    private final int[] stack;
+    
+    private BipartiteMatcher(int[][] adjacency, int right) {
+        this.adjacency = adjacency;
+        this.left = new int[adjacency.length];
+        this.right = new int[right];
+        this.distances = new int[adjacency.length];
+        this.next = new int[adjacency.length];
+        this.queue = new int[adjacency.length];
+        this.stack = new int[adjacency.length];
+        
+        Arrays.fill(this.left, UNMATCHED);
+        Arrays.fill(this.right, UNMATCHED);
+    }
+    
+    private int[] match() {
+        while (layer()) {
+            Arrays.fill(next, 0);
+            for (int vertex = 0; vertex < left.length; vertex++) {
+                if (left[vertex] == UNMATCHED) {
+                    augment(vertex);
+                }
+            }
+        }
+        
+        return left;
+    }
+    
+    /**
+     * Partitions the left vertices into layers using a breadth-first search that 
+     * starts from all unmatched left vertices.
+     * 
+     * @return {@code true} if an augmenting path exists; otherwise {@code false}
+     */
+    private boolean layer() {
+        int head = 0, tail = 0;
+        for (int vertex = 0; vertex < left.length; vertex++) {
+            if (left[vertex] == UNMATCHED) {
+                distances[vertex] = 0;
+                queue[tail++] = vertex;
+                
+            } else {
+                distances[vertex] = INFINITY;
+            }
+        }
+        
+        var found = false;
+        while (head < tail) {
+            var vertex = queue[head++];
+            for (var adjacent : adjacency[vertex]) {
+                var owner = right[adjacent];
+                if (owner == UNMATCHED) {
+                    found = true;
+                    
+                } else if (distances[owner] == INFINITY) {
+                    distances[owner] = distances[vertex] + 1;
+                    queue[tail++] = owner;
+                }
+            }
+        }
+        
+        return found;
+    }
+    
+    /**
+     * Searches for an augmenting path that starts from the given left vertex along
+     * the layers computed by {@link #layer()}, and flips the matching along it if
+     * found. The search uses an explicit stack to avoid overflowing the call stack
+     * on long paths.
+     * 
+     * @param root the unmatched left vertex
+     */
+    private void augment(int root) {
+        var top = 0;
+        stack[0] = root;
+        
+        while (top >= 0) {
+            var vertex = stack[top];
+            var edges = adjacency[vertex];
+            
+            if (next[vertex] == edges.length) {
+                distances[vertex] = INFINITY;
+                if (--top >= 0) {
+                    next[stack[top]]++;
+                }
+                continue;
+            }
+            
+            var adjacent = edges[next[vertex]];
+            var owner = right[adjacent];
+            
+            if (owner == UNMATCHED) {
+                for (; top >= 0; top--) {
+                    var matched = stack[top];
+                    var value = adjacency[matched][next[matched]];
+                    left[matched] = value;
+                    right[value] = matched;
+                }
+                return;
+            }
+            
+            if (distances[owner] == distances[vertex] + 1) {
+                stack[++top] = owner;
+                
+            } else {
+                next[vertex]++;
+            }
+        }
+    }
+    
+}
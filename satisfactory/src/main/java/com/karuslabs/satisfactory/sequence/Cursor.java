@@ -25,44 +25,62 @@ package com.karuslabs.satisfactory.sequence;
 
 import java.util.*;
 
-interface Cursor {
+/**
+ * A random access view of a list that tracks the position up to which the list 
+ * has been consumed. It allows the subsequences of a pattern to share a position.
+ * 
+ * Lists which do not support random access are copied into an array so that
+ * accessing an element takes constant time.
+ * 
+ * @param <T> the type of the elements
+ */
+final class Cursor<T> extends AbstractList<T> implements RandomAccess {
     
-    static Cursor of(List<?> list) {
-        return list instanceof Range range ? range : Range.EMPTY;
+    /**
+     * Returns the given list if it is a {@code Cursor}; otherwise a new {@code Cursor}
+     * positioned at the start of the given list.
+     * 
+     * @param <T> the type of the elements
+     * @param list the list
+     * @return a cursor over the given list
+     */
+    static <T> Cursor<T> of(List<? extends T> list) {
+        return list instanceof Cursor<?> cursor ? (Cursor<T>) cursor : new Cursor<>(list);
     }
     
-    default void move(int count) {}
-    
-    default int current() { return 0; }
-}
-
-class Range<T> extends AbstractSequentialList<T> implements Cursor {
-    static final Cursor EMPTY = new Cursor() {};
-    
-    private final List<T> list;
-    private int cursor;
+    private final List<? extends T> list;
+    private int current;
     
-    Range(List<T> list) {
-        this.list = list;
+    Cursor(List<? extends T> list) {
+        this.list = list instanceof RandomAccess ? list : (List<T>) Arrays.asList(list.toArray());
     }
     
-    @Override
-    public void move(int count) {
-        cursor += count;
+    /**
+     * Advances this cursor by the given number of elements.
+     * 
+     * @param count the number of elements
+     */
+    void move(int count) {
+        current += count;
     }
-
-    @Override
-    public int current() {
-        return cursor;
+    
+    /**
+     * Returns the index of the first element that has not been consumed.
+     * 
+     * @return the current position
+     */
+    int current() {
+        return current;
     }
     
     @Override
-    public ListIterator<T> listIterator(int index) {
-        return list.listIterator(index);
+    public T get(int index) {
+        return list.get(index);
     }
 
     @Override
     public int size() {
         return list.size();
     }
-}
\ No newline at end of file
+    
+}
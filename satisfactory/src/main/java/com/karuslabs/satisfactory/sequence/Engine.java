@@ -0,0 +1,337 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2026 Karus Labs.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.karuslabs.satisfactory.sequence;
+
+import com.karuslabs.satisfactory.*;
+import com.karuslabs.utilitary.type.TypeMirrors;
+
+import java.util.*;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * A matching engine for patterns that consist solely of {@link Equals} clauses.
+ * 
+ * Unlike evaluating each clause greedily, the engine considers every number of 
+ * elements that a clause may consume. It is therefore able to match patterns such 
+ * as {@code a{0,2} a} which a greedy evaluation rejects. For each clause, the set 
+ * of positions reachable after it is computed from the positions reachable before 
+ * it. Since the elements consumed by a clause form a contiguous run and the 
+ * {@link Times} of a clause form an interval, the reachable positions after a 
+ * clause are a union of intervals. Each element is tested at most once per clause 
+ * and phase, and memoized, so a match runs in O(n·m) time for n elements and m clauses.
+ * 
+ * Like a greedy evaluation, the last clause always consumes every consecutive element 
+ * that satisfies it, and fails if that number of elements is not within its {@code Times}. 
+ * For example, {@code a{2}} does not match {@code a a a}. Only the preceding clauses 
+ * may give back elements to the clauses that follow them. Consequently, every list
+ * matched by a greedy evaluation is also matched by the engine. Elements after the 
+ * last clause are left unconsumed for an enclosing pattern.
+ * 
+ * If a pattern cannot be matched, the result describes the longest prefix of clauses 
+ * that can be matched, followed by a greedy evaluation of the remaining clauses.
+ * 
+ * @param <T> the type of the elements
+ */
+final class Engine<T> {
+    
+    /**
+     * Compiles the given subsequences into an {@code Engine}.
+     * 
+     * @param <T> the type of the elements
+     * @param subsequences the subsequences of a pattern
+     * @return an engine, or {@code null} if a subsequence is not an {@code Equals} clause
+     */
+    static <T> @Nullable Engine<T> compile(Sequence.Ordered<T>... subsequences) {
+        var clauses = new Equals[subsequences.length];
+        for (int i = 0; i < subsequences.length; i++) {
+            if (!(subsequences[i] instanceof Equals<T> clause) || clause.assertions().length == 0) {
+                return null;
+            }
+            
+            clauses[i] = clause;
+        }
+        
+        return new Engine<>(clauses);
+    }
+    
+    private final Equals<T>[] clauses;
+    private final int[] lower;
+    private final int[] upper;
+    
+    private Engine(Equals<T>[] clauses) {
+        this.clauses = clauses;
+        this.lower = new int[clauses.length];
+        this.upper = new int[clauses.length];
+        
+        for (int i = 0; i < clauses.length; i++) {
+            lower[i] = Math.max(0, clauses[i].times().lower());
+            upper[i] = clauses[i].times().upper();
+        }
+    }
+    
+    /**
+     * Matches the given values against the compiled pattern.
+     * 
+     * @param values the values
+     * @param types the {@code TypeMirrors}
+     * @return the result of the match
+     */
+    Result match(List<? extends T> values, TypeMirrors types) {
+        var cursor = Cursor.<T>of(values);
+        return new Matcher(cursor, types).match();
+    }
+    
+    /**
+     * The state of a single match.
+     */
+    private final class Matcher {
+        
+        private final Cursor<T> cursor;
+        private final TypeMirrors types;
+        private final int size;
+        private final boolean[][] reachable;
+        private final int[][] runs;
+        private final Result[][] results;
+        
+        Matcher(Cursor<T> cursor, TypeMirrors types) {
+            this.cursor = cursor;
+            this.types = types;
+            this.size = cursor.size();
+            this.reachable = new boolean[clauses.length + 1][];
+            this.runs = new int[clauses.length][];
+            this.results = new Result[clauses.length][];
+        }
+        
+        Result match() {
+            var start = cursor.current();
+            reachable[0] = new boolean[size + 1];
+            reachable[0][start] = true;
+            
+            for (int clause = 0; clause < clauses.length; clause++) {
+                if (!advance(clause)) {
+                    return failure(clause);
+                }
+            }
+            
+            var end = size;
+            while (!reachable[clauses.length][end]) {
+                end--;
+            }
+            
+            var matched = new ArrayList<Result>(clauses.length);
+            trace(clauses.length, end, matched);
+            cursor.move(end - start);
+            
+            return new Result.Sequence.Ordered.Pattern(matched, true);
+        }
+        
+        /**
+         * Computes the positions reachable after the given clause.
+         * 
+         * @param clause the index of the clause
+         * @return {@code true} if any position is reachable; otherwise {@code false}
+         */
+        boolean advance(int clause) {
+            var before = reachable[clause];
+            var deltas = new int[size + 2];
+            var found = false;
+            
+            for (int position = 0; position <= size; position++) {
+                if (!before[position]) {
+                    continue;
+                }
+                
+                var run = run(clause, position, 0);
+                var min = last(clause) ? run : lower[clause];
+                var max = Math.min(upper[clause], run);
+                if (lower[clause] <= min && min <= max) {
+                    deltas[position + min]++;
+                    deltas[position + max + 1]--;
+                    found = true;
+                }
+            }
+            
+            var after = new boolean[size + 1];
+            for (int position = 0, count = 0; position <= size; position++) {
+                count += deltas[position];
+                after[position] = count > 0;
+            }
+            
+            reachable[clause + 1] = after;
+            return found;
+        }
+        
+        /**
+         * Describes the longest matched prefix of clauses, followed by a greedy
+         * evaluation of the clause that cannot be matched and the remaining clauses.
+         * 
+         * @param failed the index of the first clause that cannot be matched
+         * @return the result of the match
+         */
+        Result failure(int failed) {
+            var start = cursor.current();
+            var before = reachable[failed];
+            var best = -1;
+            for (int position = start; position <= size; position++) {
+                if (before[position] && (best == -1 || run(failed, position, 0) >= run(failed, best, 0))) {
+                    best = position;
+                }
+            }
+            
+            var matched = new ArrayList<Result>(clauses.length);
+            trace(failed, best, matched);
+            
+            var position = best;
+            for (int clause = failed; clause < clauses.length; clause++) {
+                var count = run(clause, position, 0);
+                matched.add(equal(clause, position, count));
+                position += count;
+            }
+            
+            cursor.move(position - start);
+            return new Result.Sequence.Ordered.Pattern(matched, false);
+        }
+        
+        /**
+         * Reconstructs the results of the clauses preceding the given clause, such
+         * that they end at the given position.
+         * 
+         * @param clause the index of the clause
+         * @param end the position at which the preceding clauses end
+         * @param matched the list to which the results are added
+         */
+        void trace(int clause, int end, List<Result> matched) {
+            var path = new Result[clause];
+            for (int i = clause - 1; i >= 0; i--) {
+                var start = end - lower[i];
+                while (!reachable[i][start] || !consumes(i, start, end - start)) {
+                    start--;
+                }
+                
+                path[i] = equal(i, start, end - start);
+                end = start;
+            }
+            
+            Collections.addAll(matched, path);
+        }
+        
+        /**
+         * Tests if the given clause is able to consume exactly {@code count} elements
+         * that start at the given position.
+         * 
+         * @param clause the index of the clause
+         * @param start the position of the first element
+         * @param count the number of elements
+         * @return {@code true} if the clause is able to consume the elements
+         */
+        boolean consumes(int clause, int start, int count) {
+            var run = run(clause, start, 0);
+            return lower[clause] <= count && count <= upper[clause] && (last(clause) ? count == run : count <= run);
+        }
+        
+        /**
+         * Tests if the given clause is the last clause, which always consumes greedily.
+         * 
+         * @param clause the index of the clause
+         * @return {@code true} if the given clause is the last clause
+         */
+        boolean last(int clause) {
+            return clause == clauses.length - 1;
+        }
+        
+        /**
+         * Returns the result of the given clause consuming {@code count} elements
+         * that start at the given position.
+         * 
+         * @param clause the index of the clause
+         * @param start the position of the first element
+         * @param count the number of elements
+         * @return the result of the clause
+         */
+        Result equal(int clause, int start, int count) {
+            var period = clauses[clause].assertions().length;
+            var list = new ArrayList<Result>(count);
+            for (int i = 0; i < count; i++) {
+                list.add(results[clause][(start + i) * period + i % period]);
+            }
+            
+            return new Result.Sequence.Ordered.Equal(clauses[clause].times(), list, count);
+        }
+        
+        /**
+         * Returns the number of consecutive elements, starting at the given position,
+         * that satisfy the given clause's assertions when the clause's first element
+         * is tested using the assertion at the given phase.
+         * 
+         * Runs are memoized by position and phase. Elements are scanned until an 
+         * element fails or a memoized run is found, after which the runs of all 
+         * scanned elements are filled in.
+         * 
+         * @param clause the index of the clause
+         * @param position the position of the first element
+         * @param phase the index of the assertion used to test the first element
+         * @return the length of the run
+         */
+        int run(int clause, int position, int phase) {
+            var assertions = clauses[clause].assertions();
+            var period = assertions.length;
+            if (runs[clause] == null) {
+                runs[clause] = new int[(size + 1) * period];
+                results[clause] = new Result[(size + 1) * period];
+                Arrays.fill(runs[clause], -1);
+                Arrays.fill(runs[clause], size * period, (size + 1) * period, 0);
+            }
+            
+            var memo = runs[clause];
+            var scanned = 0;
+            var i = position;
+            var p = phase;
+            
+            while (memo[i * period + p] == -1) {
+                var result = assertions[p].test(cursor.get(i), types);
+                if (!result.success()) {
+                    memo[i * period + p] = 0;
+                    break;
+                }
+                
+                results[clause][i * period + p] = result;
+                scanned++;
+                i++;
+                p = (p + 1) % period;
+            }
+            
+            var tail = memo[i * period + p];
+            for (int k = scanned - 1; k >= 0; k--) {
+                i--;
+                p = (p - 1 + period) % period;
+                memo[i * period + p] = ++tail;
+            }
+            
+            return memo[position * period + phase];
+        }
+        
+    }
+    
+}
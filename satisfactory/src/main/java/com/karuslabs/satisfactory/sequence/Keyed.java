@@ -0,0 +1,60 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2026 Karus Labs.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.karuslabs.satisfactory.sequence;
+
+import com.karuslabs.satisfactory.Assertion;
+
+import java.util.function.Function;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * An {@code Assertion} that can only be satisfied by values which share its key.
+ * 
+ * Unordered sequences use the key to partition values into buckets before testing
+ * them. Values in other buckets are never tested against a {@code Keyed} assertion.
+ * Assertions which share a classifier, determined by identity, also share the same
+ * buckets. It is therefore recommended to store classifiers in constants.
+ * 
+ * @param <T> the type of the value to be asserted
+ */
+public interface Keyed<T> extends Assertion<T> {
+    
+    /**
+     * Returns the function used to derive the key of a value. The function should
+     * be cheap to evaluate relative to {@link #test(Object, com.karuslabs.utilitary.type.TypeMirrors)}.
+     * 
+     * @return the function used to derive the key of a value
+     */
+    Function<? super T, ?> classifier();
+    
+    /**
+     * Returns the key that a value must have in order to satisfy this assertion,
+     * or {@code null} if values with any key may satisfy this assertion.
+     * 
+     * @return the key of this assertion
+     */
+    @Nullable Object key();
+    
+}
@@ -29,10 +29,43 @@ import com.karuslabs.utilitary.type.TypeMirrors;
 
 import java.util.*;
 
-record Pattern<T>(Ordered<T>... subsequences) implements Sequence.Ordered<T> {
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * A pattern of subsequences. The matching engine is derived from, and owned by, 
+ * the pattern; equality is determined by the subsequences alone.
+ * 
+ * @param <T> the type of the elements
+ */
+final class Pattern<T> implements Sequence.Ordered<T> {
+    
+    private final Ordered<T>[] subsequences;
+    private final @Nullable Engine<T> engine;
+    
+    @SafeVarargs
+    Pattern(Ordered<T>... subsequences) {
+        this(subsequences, true);
+    }
+    
+    /**
+     * Creates a {@code Pattern} with the given subsequences.
+     * 
+     * @param subsequences the subsequences
+     * @param memoized whether the subsequences should be matched by an {@code Engine}
+     *                 if possible, or else tested one after another
+     */
+    Pattern(Ordered<T>[] subsequences, boolean memoized) {
+        this.subsequences = subsequences;
+        this.engine = memoized ? Engine.compile(subsequences) : null;
+    }
+    
     @Override
     public Result test(List<? extends T> values, TypeMirrors types) {
-        values = subsequences.length <= 1 ? values : new Range(values);
+        if (engine != null) {
+            return engine.match(values, types);
+        }
+        
+        values = subsequences.length <= 1 ? values : Cursor.of(values);
         var results = new ArrayList<Result>();
         var success = true;
         
@@ -43,7 +76,23 @@ record Pattern<T>(Ordered<T>... subsequences) implements Sequence.Ordered<T> {
         }
         
         return new Result.Sequence.Ordered.Pattern(results, success);
-    }  
+    }
+    
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof Pattern<?> pattern && Arrays.equals(subsequences, pattern.subsequences);
+    }
+    
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(subsequences);
+    }
+    
+    @Override
+    public String toString() {
+        return "Pattern[subsequences=" + Arrays.toString(subsequences) + "]";
+    }
+    
 }
 
 record Equals<T>(Times times, Assertion<T>... assertions) implements Sequence.Ordered<T> {
@@ -53,8 +102,8 @@ record Equals<T>(Times times, Assertion<T>... assertions) implements Sequence.Or
         var results = new ArrayList<Result>();
         var count = 0;
         
-        for (var i = cursor.current(); i < values.size(); i++, count++) {
-            var result = assertions[count % assertions.length].test(values.get(i), types);
+        for (var i = cursor.current(); i < cursor.size(); i++, count++) {
+            var result = assertions[count % assertions.length].test(cursor.get(i), types);
             if (!result.success()) {
                 break;  
             }
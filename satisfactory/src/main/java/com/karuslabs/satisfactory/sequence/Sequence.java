@@ -37,6 +37,38 @@ public sealed interface Sequence<T extends Collection<?>> extends Assertion<T> {
         static <T> Ordered<T> empty() {
             return (values, types) -> new Result.Sequence.Size(values.size(), 0);
         }
+        
+        /**
+         * Returns a pattern that matches the given subsequences in order. If every
+         * subsequence is created by {@link #repeat(Times, Assertion...)}, a preceding 
+         * subsequence may give back elements to the subsequences that follow it,
+         * i.e. {@code a{0,2} a b} matches {@code a a b}. The last subsequence always
+         * consumes every consecutive element that satisfies it.
+         * 
+         * @param <T> the type of the elements
+         * @param subsequences the subsequences
+         * @return a pattern
+         */
+        @SafeVarargs
+        static <T> Ordered<T> pattern(Ordered<T>... subsequences) {
+            return new Pattern<>(subsequences);
+        }
+        
+        /**
+         * Returns a subsequence of consecutive elements that satisfy the given assertions
+         * in rotation, i.e. the first element is tested using the first assertion, 
+         * the second element using the second assertion and so on. The number of 
+         * elements must be within the given {@code Times}.
+         * 
+         * @param <T> the type of the elements
+         * @param times the number of elements
+         * @param assertions the assertions
+         * @return a subsequence
+         */
+        @SafeVarargs
+        static <T> Ordered<T> repeat(Times times, Assertion<T>... assertions) {
+            return new Equals<>(times, assertions);
+        }
     }
     
     static non-sealed interface Unordered<T> extends Sequence<Set<? extends T>> {
@@ -47,6 +79,48 @@ public sealed interface Sequence<T extends Collection<?>> extends Assertion<T> {
         static <T> Unordered<T> empty() {
             return (values, types) -> new Result.Sequence.Size(values.size(), 0);
         }
+        
+        /**
+         * Returns a sequence that is satisfied if each of the given assertions is 
+         * satisfied by a distinct value. Values that are not matched to any assertion
+         * are ignored. {@link Keyed} assertions are only tested against values which
+         * share their key.
+         * 
+         * @param <T> the type of the elements
+         * @param assertions the assertions
+         * @return a sequence
+         */
+        @SafeVarargs
+        static <T> Unordered<T> contains(Assertion<T>... assertions) {
+            return new Contains<>(new LinkedHashSet<>(List.of(assertions)));
+        }
+        
+        /**
+         * Returns a sequence that is satisfied if each of the given assertions is 
+         * satisfied by a distinct value and every value is matched to an assertion.
+         * {@link Keyed} assertions are only tested against values which share their 
+         * key.
+         * 
+         * @param <T> the type of the elements
+         * @param assertions the assertions
+         * @return a sequence
+         */
+        @SafeVarargs
+        static <T> Unordered<T> contents(Assertion<T>... assertions) {
+            return new Contents<>(new LinkedHashSet<>(List.of(assertions)));
+        }
+        
+        /**
+         * Returns a sequence that is satisfied if every value satisfies the given
+         * assertion.
+         * 
+         * @param <T> the type of the elements
+         * @param assertion the assertion
+         * @return a sequence
+         */
+        static <T> Unordered<T> each(Assertion<T> assertion) {
+            return new Each<>(assertion);
+        }
     }
     
 }
@@ -27,11 +27,36 @@ public sealed interface Times {
     
     boolean contains(int count);
     
+    /**
+     * Returns the smallest count contained in this range.
+     * 
+     * @return the smallest count
+     */
+    int lower();
+    
+    /**
+     * Returns the largest count contained in this range, or {@link Integer#MAX_VALUE}
+     * if this range is unbounded.
+     * 
+     * @return the largest count
+     */
+    int upper();
+    
     static record Between(int min, int max) implements Times {
         @Override
         public boolean contains(int count) {
             return min <= count && count < max;
         }
+        
+        @Override
+        public int lower() {
+            return min;
+        }
+        
+        @Override
+        public int upper() {
+            return max - 1;
+        }
     }
     
     static record Exact(int times) implements Times {
@@ -39,6 +64,16 @@ public sealed interface Times {
         public boolean contains(int count) {
             return times == count;
         }
+        
+        @Override
+        public int lower() {
+            return times;
+        }
+        
+        @Override
+        public int upper() {
+            return times;
+        }
     }
     
     public static record Min(int min) implements Times {
@@ -46,6 +81,16 @@ public sealed interface Times {
         public boolean contains(int count) {
             return min <= count;
         }
+        
+        @Override
+        public int lower() {
+            return min;
+        }
+        
+        @Override
+        public int upper() {
+            return Integer.MAX_VALUE;
+        }
     }
     
     public static record Max(int max) implements Times {
@@ -53,6 +98,16 @@ public sealed interface Times {
         public boolean contains(int count) {
             return count <= max;
         }
+        
+        @Override
+        public int lower() {
+            return 0;
+        }
+        
+        @Override
+        public int upper() {
+            return max;
+        }
     }
     
 }
\ No newline at end of file
@@ -27,74 +27,216 @@ import com.karuslabs.satisfactory.*;
 import com.karuslabs.utilitary.type.TypeMirrors;
 
 import java.util.*;
-
-import org.jgrapht.alg.interfaces.MatchingAlgorithm.Matching;
-import org.jgrapht.alg.matching.HopcroftKarpMaximumCardinalityBipartiteMatching;
-import org.jgrapht.graph.SimpleGraph;
+import java.util.function.Function;
 
 record Contains<T>(Set<Assertion<T>> assertions) implements Sequence.Unordered<T> {
     @Override
     public Result test(Set<? extends T> values, TypeMirrors types) {
-        var matches = Graphs.matches(assertions, values, types);     
-        var vertex = matches.getGraph().vertexSet();
-        
-        var unasserted = new ArrayDeque<>(this.assertions);
-        unasserted.removeAll(vertex);
-        
-        var remaining = new ArrayDeque<>(values);
-        remaining.removeAll(vertex);
-        
-        var success = unasserted.isEmpty();
-        
-        var results = new ArrayList<>(matches.getEdges());
-        while (!unasserted.isEmpty() && !remaining.isEmpty()) {
-            results.add(unasserted.pop().test(remaining.pop(), types));
-        }
-        
-        return new Result.Sequence.Unordered.Contains(results, values.size(), assertions.size(), success);
+        var matches = Graphs.matches(assertions, values, types);
+        var success = matches.unasserted().isEmpty();
+        return new Result.Sequence.Unordered.Contains(matches.results(types), values.size(), assertions.size(), success);
     }
 }
 
 record Contents<T>(Set<Assertion<T>> assertions) implements Sequence.Unordered<T> {
     @Override
     public Result test(Set<? extends T> values, TypeMirrors types) {
-        var matches = Graphs.matches(assertions, values, types);     
-        var vertex = matches.getGraph().vertexSet();
+        var matches = Graphs.matches(assertions, values, types);
+        var success = matches.unasserted().isEmpty() && matches.remaining().isEmpty();
+        return new Result.Sequence.Unordered.Contents(matches.results(types), values.size(), assertions.size(), success);
+    }
+}
+
+/**
+ * The maximum matching between a set of assertions and a set of values.
+ * 
+ * @param <T> the type of the values
+ */
+record Matches<T>(List<Assertion<T>> assertions, List<T> values, int[] assignments, Result[] edges) {
+    
+    /**
+     * Returns the results of this matching. The results of matched assertions are
+     * followed by the results of pairing each unmatched assertion with an unmatched
+     * value, which are only evaluated when required.
+     * 
+     * @param types the {@code TypeMirrors}
+     * @return the results of this matching
+     */
+    List<Result> results(TypeMirrors types) {
+        var results = new ArrayList<Result>(assertions.size());
+        for (var edge : edges) {
+            if (edge != null) {
+                results.add(edge);
+            }
+        }
         
-        var unasserted = new ArrayDeque<>(this.assertions);
-        unasserted.removeAll(vertex);
+        var unasserted = unasserted();
+        var remaining = remaining();
+        for (int i = 0; i < unasserted.size() && i < remaining.size(); i++) {
+            var assertion = unasserted.get(i);
+            var value = remaining.get(i);
+            results.add(Result.lazy(() -> assertion.test(value, types)));
+        }
         
-        var remaining = new ArrayDeque<>(values);
-        remaining.removeAll(vertex);
+        return results;
+    }
+    
+    /**
+     * Returns the assertions that were not matched to any value.
+     * 
+     * @return the unmatched assertions
+     */
+    List<Assertion<T>> unasserted() {
+        var unasserted = new ArrayList<Assertion<T>>();
+        for (int i = 0; i < assignments.length; i++) {
+            if (assignments[i] == BipartiteMatcher.UNMATCHED) {
+                unasserted.add(assertions.get(i));
+            }
+        }
         
-        var success = unasserted.isEmpty() && remaining.isEmpty();
+        return unasserted;
+    }
+    
+    /**
+     * Returns the values that were not matched to any assertion.
+     * 
+     * @return the unmatched values
+     */
+    List<T> remaining() {
+        var matched = new boolean[values.size()];
+        for (var assignment : assignments) {
+            if (assignment != BipartiteMatcher.UNMATCHED) {
+                matched[assignment] = true;
+            }
+        }
         
-        var results = new ArrayList<>(matches.getEdges());
-        while (!unasserted.isEmpty() && !remaining.isEmpty()) {
-            results.add(unasserted.pop().test(remaining.pop(), types));
+        var remaining = new ArrayList<T>();
+        for (int i = 0; i < matched.length; i++) {
+            if (!matched[i]) {
+                remaining.add(values.get(i));
+            }
         }
         
-        return new Result.Sequence.Unordered.Contents(results, values.size(), assertions.size(), success);
+        return remaining;
     }
+    
 }
 
 class Graphs {
-    static <T> Matching<Object, Result> matches(Set<Assertion<T>> assertions, Set<? extends T> values, TypeMirrors types) {
-        var graph = new SimpleGraph<Object, Result>(Result.class);
-        for (var assertion : assertions) {
-            for (var value : values) {
-                var result = assertion.test(value, types);
+    
+    static final int[] NONE = new int[0];
+    
+    /**
+     * Computes a maximum matching between the given assertions and values.
+     * 
+     * Values are first partitioned by the classifiers of {@link Keyed} assertions
+     * so that a {@code Keyed} assertion is only tested against values which share
+     * its key. If each assertion is satisfied by at most a single value that no
+     * other assertion is satisfied by, the matching is trivial and returned 
+     * immediately. Otherwise, the matching is computed by a {@link BipartiteMatcher}.
+     * 
+     * @param <T> the type of the values
+     * @param assertions the assertions
+     * @param values the values
+     * @param types the {@code TypeMirrors}
+     * @return the maximum matching
+     */
+    static <T> Matches<T> matches(Set<Assertion<T>> assertions, Set<? extends T> values, TypeMirrors types) {
+        var left = List.copyOf(assertions);
+        var right = List.<T>copyOf(values);
+        
+        var all = new int[right.size()];
+        for (int i = 0; i < all.length; i++) {
+            all[i] = i;
+        }
+        
+        var buckets = new IdentityHashMap<Function<?, ?>, Map<Object, int[]>>();
+        var adjacency = new int[left.size()][];
+        var results = new Result[left.size()][];
+        var claimed = new boolean[right.size()];
+        var trivial = true;
+        
+        for (int i = 0; i < left.size(); i++) {
+            var assertion = left.get(i);
+            var candidates = candidates(assertion, right, all, buckets);
+            var matched = new int[candidates.length];
+            var edges = new Result[candidates.length];
+            var count = 0;
+            
+            for (var candidate : candidates) {
+                var result = assertion.test(right.get(candidate), types);
                 if (result.success()) {
-                    graph.addEdge(assertion, value, result);
+                    matched[count] = candidate;
+                    edges[count++] = result;
                 }
             }
+            
+            adjacency[i] = count == matched.length ? matched : Arrays.copyOf(matched, count);
+            results[i] = count == edges.length ? edges : Arrays.copyOf(edges, count);
+            
+            if (count > 1 || (count == 1 && claimed[matched[0]])) {
+                trivial = false;
+                
+            } else if (count == 1) {
+                claimed[matched[0]] = true;
+            }
+        }
+        
+        int[] assignments;
+        if (trivial) {
+            assignments = new int[left.size()];
+            for (int i = 0; i < assignments.length; i++) {
+                assignments[i] = adjacency[i].length == 1 ? adjacency[i][0] : BipartiteMatcher.UNMATCHED;
+            }
+            
+        } else {
+            assignments = BipartiteMatcher.match(adjacency, right.size());
+        }
+        
+        var edges = new Result[left.size()];
+        for (int i = 0; i < assignments.length; i++) {
+            if (assignments[i] != BipartiteMatcher.UNMATCHED) {
+                var index = Arrays.binarySearch(adjacency[i], assignments[i]);
+                edges[i] = results[i][index];
+            }
         }
         
-        // This is deliberately unchecked since it accepts a Set<T> instead of Set<? extends T>.
-        // It works because we can guarantee that HopcroftKarpMaximumCardinalityBipartiteMatching does not
-        // modify the two sets.
-        return new HopcroftKarpMaximumCardinalityBipartiteMatching(graph, assertions, values).getMatching();
+        return new Matches<>(left, right, assignments, edges);
     }
+    
+    /**
+     * Returns the indexes, in ascending order, of the values which may satisfy the
+     * given assertion.
+     * 
+     * @param <T> the type of the values
+     * @param assertion the assertion
+     * @param values the values
+     * @param all the indexes of all values
+     * @param buckets the values' indexes, grouped by classifier and key
+     * @return the indexes of the candidate values
+     */
+    static <T> int[] candidates(Assertion<T> assertion, List<T> values, int[] all, Map<Function<?, ?>, Map<Object, int[]>> buckets) {
+        if (!(assertion instanceof Keyed<T> keyed) || keyed.key() == null) {
+            return all;
+        }
+        
+        var classifier = keyed.classifier();
+        var bucket = buckets.computeIfAbsent(classifier, k -> {
+            var grouped = new HashMap<Object, List<Integer>>();
+            for (int i = 0; i < values.size(); i++) {
+                grouped.computeIfAbsent(classifier.apply(values.get(i)), key -> new ArrayList<>()).add(i);
+            }
+            
+            var indexes = new HashMap<Object, int[]>(grouped.size());
+            for (var entry : grouped.entrySet()) {
+                indexes.put(entry.getKey(), entry.getValue().stream().mapToInt(Integer::intValue).toArray());
+            }
+            return indexes;
+        });
+        
+        return bucket.getOrDefault(keyed.key(), NONE);
+    }
+    
 }
 
 record Each<T>(Assertion<T> assertion) implements Sequence.Unordered<T> {
@@ -103,12 +245,14 @@ record Each<T>(Assertion<T> assertion) implements Sequence.Unordered<T> {
         var results = new ArrayList<Result>();
         var success = true;
         for (var value : values) {
+            if (!success) {
+                results.add(Result.lazy(() -> assertion.test(value, types)));
+                continue;
+            }
+            
             var result = assertion.test(value, types);
             results.add(result);
-            
-            if (!result.success()) {
-                success = false;
-            }
+            success = result.success();
         }
         
         return new Result.Sequence.Unordered.Each(results, success);
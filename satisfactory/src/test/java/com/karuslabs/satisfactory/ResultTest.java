@@ -0,0 +1,64 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2026 Karus Labs.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.karuslabs.satisfactory;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ResultTest {
+    
+    @Test
+    void lazy() {
+        var count = new AtomicInteger();
+        var lazy = (Result.Lazy) Result.lazy(() -> {
+            count.incrementAndGet();
+            return Result.FALSE;
+        });
+        
+        assertFalse(lazy.evaluated());
+        assertEquals(0, count.get());
+        
+        assertFalse(lazy.success());
+        assertTrue(lazy.evaluated());
+        assertSame(Result.FALSE, lazy.get());
+        assertEquals(1, count.get());
+    }
+    
+    @Test
+    void lazy_accept() {
+        var lazy = Result.lazy(() -> Result.TRUE);
+        var visited = lazy.accept(new Visitor<Void, Result>() {
+            @Override
+            public Result result(Result result, Void value) {
+                return result;
+            }
+        }, null);
+        
+        assertSame(Result.TRUE, visited);
+    }
+    
+}
@@ -0,0 +1,150 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2026 Karus Labs.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.karuslabs.satisfactory.sequence;
+
+import com.karuslabs.satisfactory.Result;
+import com.karuslabs.satisfactory.sequence.Times.*;
+
+import java.util.*;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.*;
+
+import static com.karuslabs.satisfactory.Assertion.equal;
+import static com.karuslabs.satisfactory.sequence.Sequence.Ordered.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+class PatternTest {
+    
+    static List<String> list(String values) {
+        return values.isEmpty() ? List.of() : List.of(values.split(""));
+    }
+    
+    @Test
+    void test_backtracks() {
+        var pattern = pattern(repeat(new Max(2), equal("a")), repeat(new Exact(1), equal("a")), repeat(new Exact(1), equal("b")));
+        var cursor = Cursor.of(list("aab"));
+        
+        assertTrue(pattern.test(cursor, null).success());
+        assertEquals(3, cursor.current());
+    }
+    
+    @Test
+    void test_backtracks_results() {
+        var pattern = pattern(repeat(new Max(2), equal("a")), repeat(new Exact(1), equal("a")));
+        var result = (Result.Sequence.Ordered.Pattern) pattern.test(list("aa"), null);
+        
+        assertTrue(result.success());
+        assertEquals(1, ((Result.Sequence.Ordered.Equal) result.results().get(0)).count());
+        assertEquals(1, ((Result.Sequence.Ordered.Equal) result.results().get(1)).count());
+    }
+    
+    @ParameterizedTest
+    @ValueSource(strings = {"aaa", "aaaa"})
+    void test_last_exact_greedy(String values) {
+        assertFalse(pattern(repeat(new Exact(2), equal("a"))).test(list(values), null).success());
+    }
+    
+    @Test
+    void test_last_max_greedy() {
+        assertFalse(pattern(repeat(new Max(2), equal("a"))).test(list("aaa"), null).success());
+    }
+    
+    @Test
+    void test_leaves_remaining() {
+        var cursor = Cursor.of(list("aab"));
+        
+        assertTrue(pattern(repeat(new Exact(2), equal("a"))).test(cursor, null).success());
+        assertEquals(2, cursor.current());
+    }
+    
+    @Test
+    void test_rotates_assertions() {
+        var cursor = Cursor.of(list("ababa"));
+        
+        assertTrue(pattern(repeat(new Min(2), equal("a"), equal("b"))).test(cursor, null).success());
+        assertEquals(5, cursor.current());
+    }
+    
+    @Test
+    void test_failure() {
+        var pattern = pattern(repeat(new Exact(1), equal("a")), repeat(new Exact(1), equal("b")));
+        var result = (Result.Sequence.Ordered.Pattern) pattern.test(list("ac"), null);
+        
+        assertFalse(result.success());
+        assertEquals(2, result.results().size());
+        assertTrue(result.results().get(0).success());
+        assertFalse(result.results().get(1).success());
+    }
+    
+    @ParameterizedTest
+    @MethodSource("patterns")
+    void test_matches_greedy(Ordered<String>[] subsequences) {
+        var greedy = new Pattern<>(subsequences, false);
+        var engine = pattern(subsequences);
+        
+        for (var values : lists(5)) {
+            if (greedy.test(values, null).success()) {
+                assertTrue(engine.test(values, null).success(), values::toString);
+            }
+        }
+    }
+    
+    static List<Arguments> patterns() {
+        return List.of(
+            Arguments.of((Object) new Ordered[] {repeat(new Exact(2), equal("a"))}),
+            Arguments.of((Object) new Ordered[] {repeat(new Max(2), equal("a")), repeat(new Min(1), equal("b"))}),
+            Arguments.of((Object) new Ordered[] {repeat(new Between(1, 3), equal("a")), repeat(new Max(1), equal("a")), repeat(new Exact(1), equal("b"))}),
+            Arguments.of((Object) new Ordered[] {repeat(new Min(0), equal("a"), equal("b")), repeat(new Max(2), equal("b"))})
+        );
+    }
+    
+    static List<List<String>> lists(int length) {
+        var lists = new ArrayList<List<String>>();
+        lists.add(List.of());
+        for (int i = 1; i <= length; i++) {
+            for (int bits = 0; bits < 1 << i; bits++) {
+                var list = new ArrayList<String>();
+                for (int j = 0; j < i; j++) {
+                    list.add((bits >> j & 1) == 0 ? "a" : "b");
+                }
+                lists.add(list);
+            }
+        }
+        
+        return lists;
+    }
+    
+    @Test
+    void equals() {
+        Ordered<String> a = repeat(new Exact(1), equal("a"));
+        Ordered<String> b = repeat(new Exact(1), equal("b"));
+        
+        assertEquals(new Pattern<>(a, b), new Pattern<>(new Ordered[] {a, b}, false));
+        assertEquals(new Pattern<>(a, b).hashCode(), new Pattern<>(new Ordered[] {a, b}, false).hashCode());
+        assertNotEquals(new Pattern<>(a, b), new Pattern<>(b, a));
+    }
+    
+}
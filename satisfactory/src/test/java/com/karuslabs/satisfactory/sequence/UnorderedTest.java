@@ -0,0 +1,130 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2026 Karus Labs.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.karuslabs.satisfactory.sequence;
+
+import com.karuslabs.satisfactory.*;
+import com.karuslabs.utilitary.type.TypeMirrors;
+
+import java.util.*;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.Test;
+
+import static com.karuslabs.satisfactory.sequence.Sequence.Unordered.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+class UnorderedTest {
+    
+    static final Function<String, Character> FIRST = value -> value.charAt(0);
+    
+    static class Prefix implements Keyed<String> {
+        
+        final Character key;
+        final List<String> tested = new ArrayList<>();
+        
+        Prefix(Character key) {
+            this.key = key;
+        }
+        
+        @Override
+        public Function<String, Character> classifier() {
+            return FIRST;
+        }
+        
+        @Override
+        public Object key() {
+            return key;
+        }
+        
+        @Override
+        public Result test(String value, TypeMirrors types) {
+            tested.add(value);
+            return new Result.Equal(value.charAt(0), key, value.charAt(0) == key);
+        }
+        
+    }
+    
+    @Test
+    void contains_keyed() {
+        var a = new Prefix('a');
+        var b = new Prefix('b');
+        
+        assertTrue(contains(a, b).test(new LinkedHashSet<>(List.of("a1", "b1", "c1", "b2")), null).success());
+        assertEquals(List.of("a1"), a.tested);
+        assertEquals(List.of("b1", "b2"), b.tested);
+    }
+    
+    @Test
+    void contains_keyed_missing() {
+        var a = new Prefix('a');
+        
+        var result = (Result.Sequence.Unordered.Contains) contains(a).test(new LinkedHashSet<>(List.of("b1", "c1")), null);
+        
+        assertFalse(result.success());
+        assertTrue(a.tested.isEmpty());
+        
+        assertFalse(result.results().get(0).success());
+        assertEquals(List.of("b1"), a.tested);
+    }
+    
+    @Test
+    void contains_unkeyed() {
+        var tested = new ArrayList<String>();
+        Assertion<String> any = (value, types) -> {
+            tested.add(value);
+            return Result.TRUE;
+        };
+        
+        assertTrue(contains(any).test(new LinkedHashSet<>(List.of("a1", "b1")), null).success());
+        assertEquals(List.of("a1", "b1"), tested);
+    }
+    
+    @Test
+    void contents_keyed() {
+        var a = new Prefix('a');
+        var b = new Prefix('b');
+        
+        assertTrue(contents(a, b).test(new LinkedHashSet<>(List.of("b1", "a1")), null).success());
+        assertFalse(contents(a, b).test(new LinkedHashSet<>(List.of("b1", "a1", "c1")), null).success());
+    }
+    
+    @Test
+    void each_lazy() {
+        var a = new Prefix('a');
+        var result = (Result.Sequence.Unordered.Each) Sequence.Unordered.each(a).test(new LinkedHashSet<>(List.of("b1", "a1", "a2")), null);
+        
+        assertFalse(result.success());
+        assertEquals(List.of("b1"), a.tested);
+        
+        assertTrue(result.results().get(2).success());
+        assertEquals(List.of("b1", "a2"), a.tested);
+    }
+    
+    @Test
+    void each() {
+        assertTrue(Sequence.Unordered.each(new Prefix('a')).test(Set.of("a1", "a2"), null).success());
+        assertFalse(Sequence.Unordered.each(new Prefix('a')).test(Set.of("a1", "b1"), null).success());
+    }
+    
+}
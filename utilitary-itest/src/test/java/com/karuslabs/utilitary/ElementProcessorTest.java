@@ -0,0 +1,89 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2026 Karus Labs.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.karuslabs.utilitary;
+
+import java.io.File;
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.*;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static com.karuslabs.elementary.Compiler.javac;
+import static com.karuslabs.elementary.file.FileObjects.ofLines;
+import static java.util.stream.Collectors.toList;
+import static org.junit.jupiter.api.Assertions.*;
+
+class ElementProcessorTest {
+    
+    @Test
+    void process_parallel(@TempDir File classes, @TempDir File sources) {
+        var pool = new ForkJoinPool(4);
+        var threads = Collections.synchronizedSet(new HashSet<Thread>());
+        var processor = new ElementProcessor(pool) {
+            @Override
+            protected void process(Element element) {
+                threads.add(Thread.currentThread());
+                
+                var runnable = types.type(Runnable.class);
+                var type = types.asTypeElement(element.asType());
+                var superclass = types.asTypeElement(type.getSuperclass());
+                
+                if (types.isSubtype(element.asType(), runnable)) {
+                    logger.error(element, elements.getPackageOf(element).getQualifiedName() + "." + type.getSimpleName() + " " + superclass.getSimpleName());
+                }
+            }
+            
+            @Override
+            public Set<String> getSupportedAnnotationTypes() {
+                return Set.of(Deprecated.class.getName());
+            }
+            
+            @Override
+            public SourceVersion getSupportedSourceVersion() {
+                return SourceVersion.latest();
+            }
+        };
+        
+        var results = javac(classes, sources).processors(processor).compile(
+            ofLines("example.A", "package example;", "@Deprecated class A implements Runnable { public void run() {} }"),
+            ofLines("example.B", "package example;", "@Deprecated class B {}"),
+            ofLines("example.C", "package example;", "@Deprecated class C extends Thread {}"),
+            ofLines("example.D", "package example;", "@Deprecated class D implements Runnable { public void run() {} void d() {} }")
+        );
+        
+        var messages = results.errors.stream().map(error -> error.getMessage(Locale.getDefault())).collect(toList());
+        
+        assertFalse(results.success);
+        assertEquals(3, messages.size());
+        assertTrue(messages.containsAll(List.of("example.A Object", "example.C Thread", "example.D Object")), messages.toString());
+        assertFalse(threads.isEmpty());
+        assertFalse(threads.contains(Thread.currentThread()));
+        
+        pool.shutdown();
+    }
+    
+}
@@ -0,0 +1,116 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2026 Karus Labs.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.karuslabs.utilitary;
+
+import java.io.*;
+import java.util.*;
+import java.util.function.BiConsumer;
+import javax.annotation.processing.*;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.TypeElement;
+
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static com.karuslabs.elementary.Compiler.javac;
+import static com.karuslabs.elementary.file.FileObjects.ofLines;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+class IndexTest {
+    
+    static final String SOURCE = "class A extends Object { static final int C = 1; <T extends Number> void m(int a) {} }";
+    
+    @TempDir File classes;
+    @TempDir File sources;
+    
+    @ParameterizedTest
+    @ValueSource(strings = {
+        "class A extends Thread { static final int C = 1; <T extends Number> void m(int a) {} }",
+        "class A extends Object { static final int C = 1; <T extends Number> void m(@Deprecated int a) {} }",
+        "class A extends Object { static final int C = 1; <T extends Number> void m(int b) {} }",
+        "class A extends Object { static final int C = 1; <T extends Number> void m(int a) throws Exception {} }",
+        "class A extends Object { static final int C = 1; <T extends CharSequence> void m(int a) {} }",
+        "class A extends Object { static final int C = 2; <T extends Number> void m(int a) {} }",
+    })
+    void replay_changed(String edited) {
+        compile(SOURCE, (index, element) -> index.record(element, Set.of()));
+        assertFalse(replay(edited));
+    }
+    
+    @ParameterizedTest
+    @ValueSource(strings = {
+        SOURCE,
+        "class A extends Object { static final int C = 1; <T extends Number> void m(int a) { System.out.println(a); } }"
+    })
+    void replay_unchanged(String edited) {
+        compile(SOURCE, (index, element) -> index.record(element, Set.of()));
+        assertTrue(replay(edited));
+    }
+    
+    boolean replay(String source) {
+        var replayed = new ArrayList<Boolean>();
+        compile(source, (index, element) -> replayed.add(index.replay(element, new Logger(mock(Messager.class)))));
+        
+        assertEquals(1, replayed.size());
+        return replayed.get(0);
+    }
+    
+    void compile(String source, BiConsumer<Index, TypeElement> action) {
+        var processor = new AbstractProcessor() {
+            Index index;
+            
+            @Override
+            public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment round) {
+                if (index == null) {
+                    index = Index.load(processingEnv.getFiler(), "index");
+                    action.accept(index, processingEnv.getElementUtils().getTypeElement("A"));
+                    
+                } else if (round.processingOver()) {
+                    try {
+                        index.save(processingEnv.getFiler());
+                        
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                }
+                return false;
+            }
+            
+            @Override
+            public Set<String> getSupportedAnnotationTypes() {
+                return Set.of("*");
+            }
+            
+            @Override
+            public SourceVersion getSupportedSourceVersion() {
+                return SourceVersion.latest();
+            }
+        };
+        
+        assertTrue(javac(classes, sources).processors(processor).compile(ofLines("A", source)).success);
+    }
+    
+}
@@ -0,0 +1,155 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2026 Karus Labs.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.karuslabs.utilitary;
+
+import com.karuslabs.elementary.junit.*;
+import com.karuslabs.elementary.junit.annotations.*;
+
+import java.io.File;
+import java.lang.annotation.*;
+import java.util.*;
+import javax.annotation.processing.*;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.*;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+
+import static com.karuslabs.elementary.Compiler.javac;
+import static com.karuslabs.elementary.file.FileObjects.ofLines;
+import static javax.lang.model.element.ElementKind.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+@ExtendWith(ToolsExtension.class)
+@Introspect
+class RoundIndexTest {
+    
+    Labels labels = Tools.labels();
+    Element type = labels.get("type");
+    RoundIndex index = RoundIndex.of(List.of(type, labels.get("subtype")), Tools.elements());
+    
+    @Inherited
+    @Target({ElementType.TYPE, ElementType.TYPE_PARAMETER})
+    @Retention(RetentionPolicy.RUNTIME)
+    @interface Marker {}
+    
+    @Marker
+    @Label("type")
+    static class Type<@Marker T> {
+        
+        @Label("variable") String variable = "a";
+        
+        @Label("executable")
+        void execute(@Deprecated int argument) {}
+        
+    }
+    
+    @Label("subtype")
+    static class Subtype extends Type<String> {}
+    
+    @Test
+    void annotated() {
+        var annotated = index.annotated(Label.class);
+        
+        assertEquals(4, annotated.size());
+        assertTrue(annotated.containsAll(List.of(type, labels.get("variable"), labels.get("executable"), labels.get("subtype"))));
+        assertEquals(annotated, index.annotated(Tools.elements().getTypeElement(Label.class.getCanonicalName())));
+    }
+    
+    @Test
+    void annotated_inherited() {
+        var annotated = List.copyOf(index.annotated(Marker.class));
+        
+        assertEquals(3, annotated.size());
+        assertEquals(type, annotated.get(0));
+        assertEquals(TYPE_PARAMETER, annotated.get(1).getKind());
+        assertEquals(labels.get("subtype"), annotated.get(2));
+    }
+    
+    @Test
+    void annotated_none() {
+        assertTrue(index.annotated(Override.class).isEmpty());
+    }
+    
+    @Test
+    void annotatedWithAny() {
+        var annotations = List.of(
+            Tools.elements().getTypeElement(Deprecated.class.getName()),
+            Tools.elements().getTypeElement(Marker.class.getCanonicalName())
+        );
+        
+        var annotated = List.copyOf(index.annotatedWithAny(annotations));
+        
+        assertEquals(4, annotated.size());
+        assertEquals(type, annotated.get(0));
+        assertEquals(TYPE_PARAMETER, annotated.get(1).getKind());
+        assertEquals(PARAMETER, annotated.get(2).getKind());
+        assertEquals(labels.get("subtype"), annotated.get(3));
+    }
+    
+    @Test
+    void kind() {
+        assertEquals(List.of(labels.get("executable")), List.copyOf(index.kind(METHOD)));
+        assertEquals(2, index.kind(CLASS).size());
+        assertEquals(1, index.kind(TYPE_PARAMETER).size());
+        assertTrue(index.kind(ENUM).isEmpty());
+    }
+    
+    @Test
+    void of_record(@TempDir File classes, @TempDir File sources) {
+        var indexes = new ArrayList<RoundIndex>();
+        var processor = new AbstractProcessor() {
+            @Override
+            public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment round) {
+                if (!round.processingOver()) {
+                    indexes.add(RoundIndex.of(round, processingEnv.getElementUtils()));
+                }
+                return false;
+            }
+            
+            @Override
+            public Set<String> getSupportedAnnotationTypes() {
+                return Set.of("*");
+            }
+            
+            @Override
+            public SourceVersion getSupportedSourceVersion() {
+                return SourceVersion.latest();
+            }
+        };
+        
+        var results = javac(classes, sources).options("--release", "17").processors(processor)
+            .compile(ofLines("Point", "record Point(int x, int y) { void move() {} }"));
+        
+        assertTrue(results.success);
+        assertEquals(1, indexes.size());
+        
+        var index = indexes.get(0);
+        assertEquals(2, index.kind(ElementKind.valueOf("RECORD_COMPONENT")).size());
+        assertEquals(1, index.kind(ElementKind.valueOf("RECORD")).size());
+        assertTrue(index.kind(METHOD).stream().anyMatch(method -> method.getSimpleName().contentEquals("move")));
+    }
+    
+}
@@ -111,6 +111,16 @@ class TextsTest {
         );
     }
     
+    @Test
+    void diagnose_builder() {
+        var snippet = VariableSnippet.of((VariableElement) labels.get("line"), 4);
+        var builder = new StringBuilder();
+        
+        Texts.diagnose(builder, "<summary>", snippet, Map.of(snippet.name, "what happened"));
+        
+        assertEquals(Texts.diagnose("<summary>", snippet, snippet.name, "what happened"), builder.toString());
+    }
+    
     @ParameterizedTest
     @MethodSource("conjunction_parameters")
     void and_list(String expected, String[] values) {
@@ -48,6 +48,23 @@ class MethodSnippetTest {
         assertEquals("@Label(\"test\")\n<T> void test(Line line, T a) throws NullPointerException", snippet.toString());
     }
     
+    @Test
+    void lazy() {
+        var lazy = MethodSnippet.lazy(method, 0);
+        
+        assertEquals(snippet, lazy.get());
+        assertSame(lazy.get(), lazy.get());
+    }
+    
+    @Test
+    void of_types() {
+        var types = Tools.typeMirrors();
+        
+        assertEquals(snippet, MethodSnippet.of(method, 0, types));
+        assertEquals(snippet, MethodSnippet.lazy(method, 0, types).get());
+        assertEquals("Line", types.simple(method.getParameters().get(0).asType()));
+    }
+    
     @Test
     void values() {
         assertEquals("@Label(\"test\")", snippet.annotations.toString());
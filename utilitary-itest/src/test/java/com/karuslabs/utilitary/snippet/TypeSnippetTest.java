@@ -53,6 +53,11 @@ class TypeSnippetTest {
         );
     }
     
+    @Test
+    void of_types() {
+        assertEquals(snippet.toString(), TypeSnippet.of(type, 0, Tools.typeMirrors()).toString());
+    }
+    
     @Test
     void fields() {
         assertEquals("@Label(\"type\")", snippet.annotations.toString());
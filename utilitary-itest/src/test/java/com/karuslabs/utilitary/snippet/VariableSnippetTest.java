@@ -49,6 +49,11 @@ class VariableSnippetTest {
         assertEquals("@Label(\"variable\")\npublic final List<String> something", snippet.toString());
     }
     
+    @Test
+    void of_types() {
+        assertEquals(snippet.toString(), VariableSnippet.of(variable, 0, Tools.typeMirrors()).toString());
+    }
+    
     @Test
     void fields() {
         assertEquals("@Label(\"variable\")", snippet.annotations.toString());
@@ -0,0 +1,128 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2026 Karus Labs.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.karuslabs.utilitary.type;
+
+import com.karuslabs.elementary.junit.*;
+import com.karuslabs.elementary.junit.annotations.*;
+
+import com.sun.source.tree.ClassTree;
+import com.sun.source.util.*;
+
+import java.io.IOException;
+import java.util.*;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.*;
+import javax.tools.ToolProvider;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import static com.karuslabs.elementary.file.FileObjects.ofLines;
+import static org.junit.jupiter.api.Assertions.*;
+
+@ExtendWith(ToolsExtension.class)
+@Introspect
+class AncestorsTest {
+    
+    TypeMirrors types = Tools.typeMirrors();
+    Ancestors ancestors = types.ancestors();
+    Labels labels = Tools.labels();
+    @Label("list") ArrayList<String> list;
+    @Label("map") Map<String, Integer> map;
+    
+    DeclaredType type = (DeclaredType) labels.get("list").asType();
+    
+    @Test
+    void find() {
+        var collection = types.specialize(Collection.class, String.class);
+        
+        assertTrue(types.isSameType(collection, ancestors.find(type, types.erasure(Collection.class))));
+        assertTrue(types.isSameType(type, ancestors.find(type, types.erasure(ArrayList.class))));
+    }
+    
+    @Test
+    void find_none() {
+        assertNull(ancestors.find(type, types.erasure(Map.class)));
+        assertNull(ancestors.find(types.type(int.class), types.erasure(Map.class)));
+    }
+    
+    @Test
+    void all() {
+        var all = ancestors.all(type);
+        
+        assertTrue(types.isSameType(type, all.values().iterator().next()));
+        assertTrue(types.isSameType(types.specialize(Iterable.class, String.class), all.get(types.asTypeElement(types.erasure(Iterable.class)))));
+        assertTrue(types.isSameType(types.type(Object.class), all.get(types.asTypeElement(types.type(Object.class)))));
+        assertSame(all, ancestors.all(type));
+    }
+    
+    @Test
+    void all_type_variables() {
+        var generic = (DeclaredType) types.asTypeElement(type).asType();
+        var list = ancestors.all(generic).get(types.asTypeElement(types.erasure(List.class)));
+        
+        assertEquals(TypeKind.TYPEVAR, list.getTypeArguments().get(0).getKind());
+        assertNotSame(ancestors.all(generic), ancestors.all(generic));
+    }
+    
+    @Test
+    void all_local() throws IOException {
+        var source = ofLines("Locals", "class Locals { void a() { class Local implements Runnable { public void run() {} } } void b() { class Local extends Thread {} } }");
+        var task = (JavacTask) ToolProvider.getSystemJavaCompiler().getTask(null, null, null, List.of("-proc:none"), null, List.of(source));
+        var trees = Trees.instance(task);
+        var locals = new ArrayList<TypeElement>();
+        
+        var units = task.parse();
+        task.analyze();
+        for (var unit : units) {
+            new TreePathScanner<Void, Void>() {
+                @Override
+                public Void visitClass(ClassTree tree, Void nothing) {
+                    if (tree.getSimpleName().contentEquals("Local")) {
+                        locals.add((TypeElement) trees.getElement(getCurrentPath()));
+                    }
+                    return super.visitClass(tree, nothing);
+                }
+            }.scan(unit, null);
+        }
+        
+        var types = new TypeMirrors(task.getElements(), task.getTypes());
+        var runnable = types.asTypeElement(types.type(Runnable.class));
+        var thread = types.asTypeElement(types.type(Thread.class));
+        var first = (DeclaredType) locals.get(0).asType();
+        var second = (DeclaredType) locals.get(1).asType();
+        
+        assertEquals(first.toString(), second.toString());
+        assertTrue(types.ancestors().all(first).containsKey(runnable));
+        assertFalse(types.ancestors().all(first).containsKey(thread));
+        assertTrue(types.ancestors().all(second).containsKey(thread));
+    }
+    
+    @Test
+    void concrete() {
+        assertTrue(Ancestors.concrete(labels.get("map").asType()));
+        assertFalse(Ancestors.concrete(types.asTypeElement(type).asType()));
+    }
+    
+}
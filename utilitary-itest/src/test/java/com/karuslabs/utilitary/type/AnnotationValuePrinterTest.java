@@ -26,13 +26,15 @@ package com.karuslabs.utilitary.type;
 import com.karuslabs.elementary.junit.*;
 import com.karuslabs.elementary.junit.annotations.*;
 
-import javax.lang.model.element.Modifier;
+import javax.lang.model.element.*;
+import javax.lang.model.type.DeclaredType;
 
 import org.junit.jupiter.api.*;
 import org.junit.jupiter.api.extension.ExtendWith;
 
 import static javax.lang.model.element.Modifier.STATIC;
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
 
 @ExtendWith(ToolsExtension.class)
 @Introspect
@@ -52,6 +54,43 @@ class AnnotationValuePrinterTest {
         assertEquals("@Nested", print("empty"));
     }
     
+    @Test
+    @Label("cached")
+    @Multiple(a = "1", b = "2")
+    void annotation_cached() {
+        var types = Tools.typeMirrors();
+        var annotation = types.annotation(labels.get("cached"), (DeclaredType) types.type(Multiple.class));
+        assertSame(AnnotationValuePrinter.annotation(annotation), AnnotationValuePrinter.annotation(annotation));
+    }
+    
+    @Test
+    void cache_evicts_least_recently_used() {
+        var cache = new AnnotationValuePrinter.Cache(2);
+        var a = mock(AnnotationMirror.class);
+        var b = mock(AnnotationMirror.class);
+        var c = mock(AnnotationMirror.class);
+        
+        cache.put(a, "a");
+        cache.put(b, "b");
+        cache.get(a);
+        cache.put(c, "c");
+        
+        assertEquals(2, cache.size());
+        assertEquals("a", cache.get(a));
+        assertNull(cache.get(b));
+        assertEquals("c", cache.get(c));
+    }
+    
+    @Test
+    void cache_compares_identity() {
+        var cache = new AnnotationValuePrinter.Cache(2);
+        var a = mock(AnnotationMirror.class);
+        
+        cache.put(a, "a");
+        
+        assertNull(cache.get(mock(AnnotationMirror.class)));
+    }
+    
     @Test
     @Label("multiple")
     @Multiple(a = "1", b = "2")
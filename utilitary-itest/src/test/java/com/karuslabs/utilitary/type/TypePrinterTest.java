@@ -26,6 +26,7 @@ package com.karuslabs.utilitary.type;
 import com.karuslabs.elementary.junit.*;
 import com.karuslabs.elementary.junit.annotations.*;
 
+import java.io.StringWriter;
 import java.util.*;
 import java.util.function.Consumer;
 import javax.lang.model.element.*;
@@ -108,6 +109,41 @@ class TypePrinterTest {
         assertEquals("TypePrinterTest.Circular<T extends TypePrinterTest.Circular<T, C extends Consumer<T>>, C>", simple(labels.get("circular").asType()));
     }
     
+    @Test
+    void simple_appendable() {
+        var builder = new StringBuilder("type: ");
+        simple(labels.get("type_variables").asType(), builder);
+        
+        assertEquals("type: Map<String, Integer>", builder.toString());
+    }
+    
+    @Test
+    void simple_appendable_writer() {
+        var writer = new StringWriter();
+        simple(labels.get("type_variables").asType(), writer);
+        
+        assertEquals("Map<String, Integer>", writer.toString());
+    }
+    
+    @Test
+    void simple_cached() {
+        var types = Tools.typeMirrors();
+        var type = labels.get("type_variables").asType();
+        
+        assertEquals("Map<String, Integer>", types.simple(type));
+        assertSame(types.simple(type), types.simple(type));
+        assertNotSame(simple(type), simple(type));
+    }
+    
+    @Test
+    void qualified_cached() {
+        var types = Tools.typeMirrors();
+        var type = labels.get("type_variables").asType();
+        
+        assertEquals("java.util.Map<java.lang.String, java.lang.Integer>", types.qualified(type));
+        assertSame(types.qualified(type), types.qualified(type));
+    }
+    
     @Test
     void defaultAction() {
         TypeMirror type = when(mock(TypeMirror.class).getKind()).thenReturn(TypeKind.EXECUTABLE).getMock();
@@ -132,6 +168,14 @@ class QualifiedTypePrinterTest {
         assertEquals("java.util.List<java.lang.String>", qualified(labels.get("qualified").asType()));
     }
     
+    @Test
+    void qualified_appendable() {
+        var builder = new StringBuilder();
+        qualified(labels.get("qualified").asType(), builder);
+        
+        assertEquals("java.util.List<java.lang.String>", builder.toString());
+    }
+    
     @Test
     void rawType_throws_exception() {
         Element element = mock(Element.class);
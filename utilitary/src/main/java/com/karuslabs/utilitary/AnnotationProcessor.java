@@ -28,6 +28,8 @@ import com.karuslabs.utilitary.type.TypeMirrors;
 import javax.annotation.processing.*;
 import javax.lang.model.util.*;
 
+import org.checkerframework.checker.nullness.qual.Nullable;
+
 /**
  * A skeletal implementation of an annotation processor that provides facilities 
  * to access the annotation processing environment.
@@ -50,6 +52,9 @@ public abstract class AnnotationProcessor extends AbstractProcessor {
      */
     protected Logger logger;
     
+    private @Nullable RoundEnvironment round;
+    private @Nullable RoundIndex index;
+    
     /**
      * Initializes this annotation processor and its fields.
      * <br><br>
@@ -65,4 +70,20 @@ public abstract class AnnotationProcessor extends AbstractProcessor {
         logger = new Logger(environment.getMessager());
     }
     
+    /**
+     * Returns an index of the elements in the given round. The index is built once
+     * per round and reused by subsequent calls with the same round.
+     * 
+     * @param round the current round
+     * @return an index of the elements in the given round
+     */
+    protected RoundIndex index(RoundEnvironment round) {
+        if (this.round != round || index == null) {
+            index = RoundIndex.of(round, elements);
+            this.round = round;
+        }
+        
+        return index;
+    }
+    
 }
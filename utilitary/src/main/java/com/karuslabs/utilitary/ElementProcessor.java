@@ -23,20 +23,92 @@
  */
 package com.karuslabs.utilitary;
 
-import java.util.Set;
-import javax.annotation.processing.RoundEnvironment;
+import com.karuslabs.utilitary.type.*;
+
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.util.*;
+import java.util.concurrent.*;
+import javax.annotation.processing.*;
 import javax.lang.model.element.*;
+import javax.lang.model.type.*;
+import javax.lang.model.util.*;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
 
 /**
  * A skeletal implementation of an annotation processor that finds and processes
  * all elements annotated with the supported annotations.
+ * 
+ * An {@code ElementProcessor} may optionally process elements in parallel using a
+ * {@code ForkJoinPool}. In this mode, each element is first prepared via 
+ * {@link #prepare(Element)} on the processing thread before being processed 
+ * concurrently via {@link #process(Element)}. The compiler lazily completes elements
+ * and types in a manner that is not thread-safe. Hence, {@link #process(Element)}
+ * may only access elements and types which were completed when the element was 
+ * prepared, or else retrieve them via {@link #elements} and {@link #types}, whose
+ * calls are serialized while elements are processed concurrently. Subclasses that 
+ * access other elements should override {@link #prepare(Element)} to complete them.
+ * Messages logged via {@link #logger} while processing an element are buffered and 
+ * forwarded in the order of the elements after all elements have been processed. 
+ * It is the responsibility of subclasses to ensure that {@link #process(Element)} 
+ * is otherwise thread-safe.
+ * 
+ * An {@code ElementProcessor} may also optionally persist an index under the class 
+ * output that maps each annotated element to a fingerprint of its structure and 
+ * the messages logged while it was processed. Unchanged elements are skipped in 
+ * subsequent compilations and the recorded messages replayed instead. Subclasses
+ * whose processing of an element depends on other elements, or on method bodies,
+ * should not enable the index. The index is written to the class output and hence
+ * packaged alongside the compiled classes unless excluded by the build, e.g. via
+ * the {@code excludes} of the {@code maven-jar-plugin}.
  */
 public abstract class ElementProcessor extends AnnotationProcessor {
+    
+    private final @Nullable ForkJoinPool pool;
+    private final @Nullable String name;
+    private @Nullable Index index;
+    
+    /**
+     * Creates an {@code ElementProcessor} which processes elements sequentially.
+     */
+    protected ElementProcessor() {
+        this(null, null);
+    }
+    
+    /**
+     * Creates an {@code ElementProcessor} which processes elements in parallel using
+     * the given pool.
+     * 
+     * @param pool the pool used to process elements, or {@code null} if elements 
+     *             should be processed sequentially
+     */
+    protected ElementProcessor(@Nullable ForkJoinPool pool) {
+        this(pool, null);
+    }
+    
+    /**
+     * Creates an {@code ElementProcessor} which processes elements in parallel using
+     * the given pool and skips elements that have not changed since the previous 
+     * compilation using the index with the given name.
+     * 
+     * @param pool the pool used to process elements, or {@code null} if elements 
+     *             should be processed sequentially
+     * @param index the name of the index under the class output, or {@code null} 
+     *              if all elements should be processed
+     */
+    protected ElementProcessor(@Nullable ForkJoinPool pool, @Nullable String index) {
+        this.pool = pool;
+        this.name = index;
+    }
 
     /**
      * Finds and processes all elements in the current round that is annotated with
      * any of the given annotations. Processing of each element is delegated to
      * {@link #process(Element)}. Tearing down is subsequently delegated to {@link #clear}.
+     * Messages buffered by the {@code Logger} are flushed at the end of each round.
+     * The index, if enabled, is saved in the final round.
      * 
      * @param annotations the annotations
      * @param round the current round
@@ -44,14 +116,186 @@ public abstract class ElementProcessor extends AnnotationProcessor {
      */
     @Override
     public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment round) {
-        for (var element : round.getElementsAnnotatedWithAny(annotations.toArray(TypeElement[]::new))) {
-            process(element);
+        try {
+            var elements = round.getElementsAnnotatedWithAny(annotations.toArray(TypeElement[]::new));
+            if (name != null) {
+                elements = replay(elements);
+            }
+                
+            if (pool != null && elements.size() > 1) {
+                process(pool, List.copyOf(elements));
+                
+            } else if (index != null) {
+                for (var element : elements) {
+                    record(element);
+                }
+                
+            } else {
+                for (var element : elements) {
+                    process(element);
+                }
+            }
+            
+        } finally {
+            clear();
+            logger.flush();
+        }
+        
+        if (index != null && round.processingOver()) {
+            try {
+                index.save(processingEnv.getFiler());
+                
+            } catch (IOException e) {
+                logger.warn(null, "Failed to save index: " + name + ", " + e.getMessage());
+            }
         }
-        clear();
         
         return false;
     }
     
+    /**
+     * Replays the messages for all elements that have not changed since the previous
+     * compilation, loading the index if it has not been loaded.
+     * 
+     * @param elements the annotated elements
+     * @return the elements that have changed
+     */
+    Set<? extends Element> replay(Set<? extends Element> elements) {
+        if (index == null) {
+            index = Index.load(processingEnv.getFiler(), name);
+        }
+        
+        var changed = new LinkedHashSet<Element>();
+        for (var element : elements) {
+            if (!index.replay(element, logger)) {
+                changed.add(element);
+            }
+        }
+        
+        return changed;
+    }
+    
+    /**
+     * Processes the given element and records the messages logged while processing 
+     * it in the index.
+     * 
+     * @param element the element
+     */
+    void record(Element element) {
+        var logger = this.logger;
+        var buffer = new Logger(logger.messager(), new LinkedHashSet<>(), Integer.MAX_VALUE);
+        this.logger = buffer;
+        try {
+            process(element);
+            index.record(element, buffer.messages());
+            
+        } finally {
+            this.logger = logger;
+            buffer.drain(logger);
+        }
+    }
+    
+    /**
+     * Processes the given elements in parallel using the given pool.
+     * 
+     * @param pool the pool
+     * @param annotated the annotated elements
+     */
+    void process(ForkJoinPool pool, List<? extends Element> annotated) {
+        for (var element : annotated) {
+            prepare(element);
+        }
+        
+        var elements = this.elements;
+        var types = this.types;
+        var logger = this.logger;
+        
+        var lock = new Object();
+        var serialized = serialize(Elements.class, elements, lock);
+        var concurrent = new ConcurrentLogger();
+        var loggers = new Logger[annotated.size()];
+        
+        this.elements = serialized;
+        this.types = new TypeMirrors(serialized, serialize(Types.class, types, lock));
+        this.logger = concurrent;
+        
+        var tasks = new ArrayList<ForkJoinTask<?>>(annotated.size());
+        Throwable failure = null;
+        try {
+            for (int i = 0; i < annotated.size(); i++) {
+                var position = i;
+                tasks.add(pool.submit(() -> {
+                    var buffer = new Logger(logger.messager(), new LinkedHashSet<>(), Integer.MAX_VALUE);
+                    loggers[position] = buffer;
+                    concurrent.current.set(buffer);
+                    try {
+                        process(annotated.get(position));
+                        
+                    } finally {
+                        concurrent.current.remove();
+                    }
+                }));
+            }
+            
+        } catch (RuntimeException e) {
+            failure = e;
+        }
+        
+        for (var task : tasks) {
+            task.quietlyJoin();
+            var exception = task.getException();
+            if (exception == null) {
+                continue;
+            }
+            
+            if (failure == null) {
+                failure = exception;
+                
+            } else {
+                failure.addSuppressed(exception);
+            }
+        }
+        
+        this.elements = elements;
+        this.types = types;
+        this.logger = logger;
+        
+        for (int i = 0; i < loggers.length; i++) {
+            if (loggers[i] != null) {
+                if (index != null && failure == null) {
+                    index.record(annotated.get(i), loggers[i].messages());
+                }
+                loggers[i].drain(logger);
+            }
+        }
+        
+        if (failure instanceof RuntimeException) {
+            throw (RuntimeException) failure;
+            
+        } else if (failure instanceof Error) {
+            throw (Error) failure;
+            
+        } else if (failure != null) {
+            throw new IllegalStateException(failure);
+        }
+    }
+    
+    /**
+     * Prepares the given element to be processed concurrently. This method is
+     * called sequentially, on the processing thread, for each element before any
+     * element is processed when elements are processed in parallel.
+     * <br><br>
+     * <b>Default implementation:</b><br>
+     * Completes the given element and all elements enclosed by it, together with 
+     * their types, annotations and the types they reference, which are otherwise 
+     * lazily completed by the compiler.
+     * 
+     * @param element the element
+     */
+    protected void prepare(Element element) {
+        element.accept(Completer.COMPLETER, null);
+    }
+    
     /**
      * Processes the given annotated element.
      * 
@@ -67,4 +311,158 @@ public abstract class ElementProcessor extends AnnotationProcessor {
      */
     protected void clear() {}
     
+    
+    /**
+     * Returns a proxy which serializes calls to the given object on the given lock.
+     * 
+     * @param <T> the type of the object
+     * @param type the interface of the object
+     * @param object the object
+     * @param lock the lock
+     * @return a proxy which serializes calls to the given object
+     */
+    static <T> T serialize(Class<T> type, T object, Object lock) {
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] {type}, (proxy, method, arguments) -> {
+            synchronized (lock) {
+                try {
+                    return method.invoke(object, arguments);
+                    
+                } catch (InvocationTargetException e) {
+                    throw e.getCause();
+                }
+            }
+        }));
+    }
+    
+}
+
+/**
+ * A scanner that completes every element enclosed by a root element, together with
+ * their types, annotations and the declarations of the types they reference.
+ */
+class Completer extends ElementScanner9<Void, Void> {
+    
+    static final Completer COMPLETER = new Completer();
+    
+    @Override
+    public Void scan(Element element, Void parameter) {
+        element.getModifiers();
+        complete(element.asType());
+        for (var annotation : element.getAnnotationMirrors()) {
+            complete(annotation.getAnnotationType());
+            annotation.getElementValues();
+        }
+        
+        return super.scan(element, parameter);
+    }
+    
+    @Override
+    public Void visitType(TypeElement type, Void parameter) {
+        complete(type.getSuperclass());
+        for (var supertype : type.getInterfaces()) {
+            complete(supertype);
+        }
+        
+        scan(type.getTypeParameters(), parameter);
+        return super.visitType(type, parameter);
+    }
+    
+    @Override
+    public Void visitExecutable(ExecutableElement executable, Void parameter) {
+        complete(executable.getReturnType());
+        for (var thrown : executable.getThrownTypes()) {
+            complete(thrown);
+        }
+        executable.getDefaultValue();
+        
+        scan(executable.getTypeParameters(), parameter);
+        return super.visitExecutable(executable, parameter);
+    }
+    
+    @Override
+    public Void visitTypeParameter(TypeParameterElement parameter, Void nothing) {
+        for (var bound : parameter.getBounds()) {
+            complete(bound);
+        }
+        
+        return super.visitTypeParameter(parameter, nothing);
+    }
+    
+    /**
+     * Scans the elements enclosed by elements unknown to this scanner, i.e. record 
+     * components.
+     * 
+     * @param element the element
+     * @param parameter the parameter
+     * @return {@code null}
+     */
+    @Override
+    public Void visitUnknown(Element element, Void parameter) {
+        return scan(element.getEnclosedElements(), parameter);
+    }
+    
+    /**
+     * Completes the declaration of the given type and its type arguments.
+     * 
+     * @param type the type
+     */
+    void complete(TypeMirror type) {
+        switch (type.getKind()) {
+            case DECLARED:
+            case ERROR:
+                var declared = (DeclaredType) type;
+                declared.asElement().getEnclosedElements();
+                for (var argument : declared.getTypeArguments()) {
+                    complete(argument);
+                }
+                break;
+                
+            case ARRAY:
+                complete(((ArrayType) type).getComponentType());
+                break;
+                
+            case WILDCARD:
+                var wildcard = (WildcardType) type;
+                if (wildcard.getExtendsBound() != null) {
+                    complete(wildcard.getExtendsBound());
+                }
+                if (wildcard.getSuperBound() != null) {
+                    complete(wildcard.getSuperBound());
+                }
+                break;
+                
+            default:
+                break;
+        }
+    }
+    
+}
+
+/**
+ * A {@code Logger} that forwards messages to the {@code Logger} of the element being
+ * processed by the current thread.
+ */
+class ConcurrentLogger extends Logger {
+    
+    final ThreadLocal<Logger> current = new ThreadLocal<>();
+    
+    ConcurrentLogger() {
+        super(null, null, Integer.MAX_VALUE);
+    }
+    
+    @Override
+    void print(Message message) {
+        current.get().print(message);
+    }
+    
+    @Override
+    public void clear() {
+        current.get().clear();
+    }
+    
+    @Override
+    public boolean error() {
+        return current.get().error();
+    }
+    
 }
@@ -0,0 +1,308 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2026 Karus Labs.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.karuslabs.utilitary;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.security.*;
+import java.util.*;
+import javax.annotation.processing.Filer;
+import javax.lang.model.element.*;
+import javax.tools.Diagnostic.Kind;
+
+import static javax.tools.StandardLocation.CLASS_OUTPUT;
+
+/**
+ * A persistent index that maps annotated elements to the messages logged while 
+ * they were last processed. An element is identified by its qualified name and 
+ * fingerprinted by its structure, i.e. its kind, modifiers, type, annotations, 
+ * supertypes, type parameters and their bounds, parameters, thrown types, default 
+ * and constant values, and enclosed elements.
+ * 
+ * Messages are replayed on the annotated element itself; the enclosed element 
+ * and annotation on which a message was originally reported are not retained.
+ * Method bodies and elements other than the annotated element and its enclosed
+ * elements, such as the members of supertypes, are not part of the fingerprint.
+ * 
+ * Only the entries of elements that were replayed or recorded during the current
+ * compilation are saved; entries of elements that no longer exist are pruned. 
+ * The index is saved to the class output and is hence packaged alongside the 
+ * compiled classes unless excluded by the build.
+ */
+final class Index {
+    
+    /**
+     * Loads the index with the given name from the class output using the given 
+     * filer. Returns an empty index if no such index exists or it cannot be read.
+     * 
+     * @param filer the filer
+     * @param name the name of the index
+     * @return the loaded index
+     */
+    static Index load(Filer filer, String name) {
+        var index = new Index(name);
+        try (var reader = new BufferedReader(filer.getResource(CLASS_OUTPUT, "", name).openReader(true))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                var parts = line.split("\t", -1);
+                var count = Integer.parseInt(parts[2]);
+                var messages = new ArrayList<Entry.Record>(count);
+                for (int i = 0; i < count; i++) {
+                    var record = reader.readLine().split("\t", -1);
+                    messages.add(new Entry.Record(Kind.valueOf(record[0]), record[1].equals("1"), unescape(record[2])));
+                }
+                index.entries.put(unescape(parts[0]), new Entry(parts[1], messages));
+            }
+            
+        } catch (IOException | IllegalArgumentException | IndexOutOfBoundsException | NullPointerException e) {
+            index.entries.clear();
+        }
+        
+        return index;
+    }
+    
+    
+    private final String name;
+    private final Map<String, Entry> entries = new HashMap<>();
+    private final Set<String> seen = new HashSet<>();
+    
+    Index(String name) {
+        this.name = name;
+    }
+    
+    /**
+     * Replays the messages recorded for the given element using the given logger 
+     * if the element has not changed since it was recorded.
+     * 
+     * @param element the element
+     * @param logger the logger
+     * @return {@code true} if the messages for the element were replayed
+     */
+    boolean replay(Element element, Logger logger) {
+        var key = key(element);
+        seen.add(key);
+        
+        var entry = entries.get(key);
+        if (entry == null || !entry.fingerprint.equals(fingerprint(element))) {
+            return false;
+        }
+        
+        for (var record : entry.records) {
+            logger.print(new Message(record.kind, record.located ? element : null, null, record.message));
+        }
+        
+        return true;
+    }
+    
+    /**
+     * Records the given messages logged while processing the given element.
+     * 
+     * @param element the element
+     * @param messages the messages
+     */
+    void record(Element element, Collection<Message> messages) {
+        var records = new ArrayList<Entry.Record>(messages.size());
+        for (var message : messages) {
+            records.add(new Entry.Record(message.kind, message.location != null, message.message));
+        }
+        
+        var key = key(element);
+        seen.add(key);
+        entries.put(key, new Entry(fingerprint(element), records));
+    }
+    
+    /**
+     * Saves the entries of the elements replayed or recorded during the current
+     * compilation to the class output using the given filer. This method should be
+     * called at most once per compilation.
+     * 
+     * @param filer the filer
+     * @throws IOException if this index could not be saved
+     */
+    void save(Filer filer) throws IOException {
+        try (var writer = new BufferedWriter(filer.createResource(CLASS_OUTPUT, "", name).openWriter())) {
+            for (var entry : entries.entrySet()) {
+                if (!seen.contains(entry.getKey())) {
+                    continue;
+                }
+                
+                var value = entry.getValue();
+                writer.append(escape(entry.getKey())).append('\t').append(value.fingerprint).append('\t')
+                      .append(String.valueOf(value.records.size())).append('\n');
+                
+                for (var record : value.records) {
+                    writer.append(record.kind.name()).append('\t').append(record.located ? '1' : '0').append('\t')
+                          .append(escape(record.message)).append('\n');
+                }
+            }
+        }
+    }
+    
+    
+    /**
+     * Returns a key that identifies the given element across compilations.
+     * 
+     * @param element the element
+     * @return the key
+     */
+    static String key(Element element) {
+        if (element instanceof QualifiedNameable) {
+            return ((QualifiedNameable) element).getQualifiedName().toString();
+        }
+        
+        var enclosing = element.getEnclosingElement();
+        return enclosing == null ? element.toString() : key(enclosing) + '#' + element;
+    }
+    
+    /**
+     * Returns a fingerprint of the given element's structure.
+     * 
+     * @param element the element
+     * @return the fingerprint
+     */
+    static String fingerprint(Element element) {
+        var builder = new StringBuilder();
+        describe(builder, element);
+        
+        try {
+            var digest = MessageDigest.getInstance("SHA-256").digest(builder.toString().getBytes(StandardCharsets.UTF_8));
+            var hex = new StringBuilder(digest.length * 2);
+            for (var b : digest) {
+                hex.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+            }
+            return hex.toString();
+            
+        } catch (NoSuchAlgorithmException e) {
+            return Integer.toHexString(builder.toString().hashCode());
+        }
+    }
+    
+    static void describe(StringBuilder builder, Element element) {
+        builder.append(element.getKind()).append(' ').append(element.getModifiers()).append(' ')
+               .append(element).append(' ').append(element.asType());
+        
+        for (var annotation : element.getAnnotationMirrors()) {
+            builder.append(' ').append(annotation);
+        }
+        
+        if (element instanceof TypeElement) {
+            var type = (TypeElement) element;
+            describe(builder, type.getTypeParameters());
+            builder.append(" extends ").append(type.getSuperclass()).append(" implements ").append(type.getInterfaces());
+            
+        } else if (element instanceof ExecutableElement) {
+            var method = (ExecutableElement) element;
+            describe(builder, method.getTypeParameters());
+            
+            builder.append('(');
+            for (var parameter : method.getParameters()) {
+                describe(builder, parameter);
+                builder.append(',');
+            }
+            builder.append(')');
+            
+            builder.append(" throws ").append(method.getThrownTypes()).append(" default ").append(method.getDefaultValue());
+            
+        } else if (element instanceof VariableElement) {
+            builder.append(" = ").append(((VariableElement) element).getConstantValue());
+        }
+        
+        builder.append('{');
+        for (var enclosed : element.getEnclosedElements()) {
+            describe(builder, enclosed);
+            builder.append(';');
+        }
+        builder.append('}');
+    }
+    
+    static void describe(StringBuilder builder, List<? extends TypeParameterElement> parameters) {
+        builder.append('<');
+        for (var parameter : parameters) {
+            builder.append(parameter).append(" extends ").append(parameter.getBounds());
+            for (var annotation : parameter.getAnnotationMirrors()) {
+                builder.append(' ').append(annotation);
+            }
+            builder.append(',');
+        }
+        builder.append('>');
+    }
+    
+    
+    static String escape(String value) {
+        return value.replace("\\", "\\\\").replace("\t", "\\t").replace("\n", "\\n").replace("\r", "\\r");
+    }
+    
+    static String unescape(String value) {
+        var builder = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            var character = value.charAt(i);
+            if (character == '\\' && i + 1 < value.length()) {
+                switch (value.charAt(++i)) {
+                    case 't': builder.append('\t'); break;
+                    case 'n': builder.append('\n'); break;
+                    case 'r': builder.append('\r'); break;
+                    default: builder.append(value.charAt(i));
+                }
+                
+            } else {
+                builder.append(character);
+            }
+        }
+        return builder.toString();
+    }
+    
+    
+    /**
+     * The fingerprint of an element and the messages logged while processing it.
+     */
+    static final class Entry {
+        
+        final String fingerprint;
+        final List<Record> records;
+        
+        Entry(String fingerprint, List<Record> records) {
+            this.fingerprint = fingerprint;
+            this.records = records;
+        }
+        
+        /**
+         * A recorded message.
+         */
+        static final class Record {
+            
+            final Kind kind;
+            final boolean located;
+            final String message;
+            
+            Record(Kind kind, boolean located, String message) {
+                this.kind = kind;
+                this.located = located;
+                this.message = message;
+            }
+            
+        }
+        
+    }
+    
+}
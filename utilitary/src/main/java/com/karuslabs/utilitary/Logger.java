@@ -23,6 +23,7 @@
  */
 package com.karuslabs.utilitary;
 
+import java.util.*;
 import javax.annotation.processing.Messager;
 import javax.lang.model.element.*;
 import javax.tools.Diagnostic.Kind;
@@ -35,13 +36,32 @@ import static javax.tools.Diagnostic.Kind.*;
  * A logger in an annotation processing environment that forwards all logged messages 
  * to an underlying {@code Messager}. In addition, this logger tracks whether an
  * error has been logged. 
+ * 
+ * A buffered logger collects messages until {@link #flush()} is called instead of
+ * forwarding them immediately. Identical messages of the same kind at the same
+ * location are only forwarded once, and the number of notes forwarded for each 
+ * element is capped. {@link ElementProcessor} flushes its logger at the end of
+ * each round.
  */
 public class Logger {
 
+    /**
+     * Creates a buffered {@code Logger} with the given messager.
+     * 
+     * @param messager the messager
+     * @param notes the maximum number of notes to forward for each element
+     * @return a buffered {@code Logger}
+     */
+    public static Logger buffered(Messager messager, int notes) {
+        return new Logger(messager, new LinkedHashSet<>(), notes);
+    }
+    
     /**
      * The underlying {@code Messager}.
      */
     private final Messager messager;
+    private final @Nullable Set<Message> buffer;
+    private final int notes;
     private boolean error;
     
     /**
@@ -50,7 +70,13 @@ public class Logger {
      * @param messager the messager
      */
     public Logger(Messager messager) {
+        this(messager, null, Integer.MAX_VALUE);
+    }
+    
+    Logger(Messager messager, @Nullable Set<Message> buffer, int notes) {
         this.messager = messager;
+        this.buffer = buffer;
+        this.notes = notes;
         this.error = false;
     }
     
@@ -63,8 +89,7 @@ public class Logger {
      * @param message the error message
      */
     public void error(Element element, AnnotationMirror annotation, Object message) {
-        messager.printMessage(ERROR, message.toString(), element, annotation);
-        error = true;
+        print(new Message(ERROR, element, annotation, message.toString()));
     }
     
     /**
@@ -74,8 +99,7 @@ public class Logger {
      * @param message the error message
      */
     public void error(@Nullable Element location, Object message) {
-        print(location, ERROR, message.toString());
-        error = true;
+        print(new Message(ERROR, location, null, message.toString()));
     }
     
     /**
@@ -86,7 +110,7 @@ public class Logger {
      * @param message the warning message
      */
     public void warn(Element element, AnnotationMirror annotation, Object message) {
-        messager.printMessage(WARNING, message.toString(), element, annotation);
+        print(new Message(WARNING, element, annotation, message.toString()));
     }
     
     /**
@@ -96,7 +120,7 @@ public class Logger {
      * @param message the warning message
      */
     public void warn(@Nullable Element location, String message) {
-        print(location, WARNING, message);
+        print(new Message(WARNING, location, null, message));
     }
 
     /**
@@ -107,7 +131,7 @@ public class Logger {
      * @param message the note
      */
     public void note(Element element, AnnotationMirror annotation, Object message) {
-        messager.printMessage(NOTE, message.toString(), element, annotation);
+        print(new Message(NOTE, element, annotation, message.toString()));
     }
     
     /**
@@ -117,26 +141,86 @@ public class Logger {
      * @param message the note
      */
     public void note(@Nullable Element location, String message) {
-        print(location, NOTE, message);
+        print(new Message(NOTE, location, null, message));
     }
     
     
     /**
-     * Prints the given message at the given location.
+     * Forwards the given message to the underlying {@code Messager}, or buffers it
+     * if this logger is buffered.
      * 
-     * @param location the location of this message, {@code null} if none
-     * @param kind the message kind
      * @param message the message
      */
-    private void print(@Nullable Element location, Kind kind, String message) {
-        if (location != null) {
-            messager.printMessage(kind, message, location);
+    void print(Message message) {
+        if (message.kind == ERROR) {
+            error = true;
+        }
+        
+        if (buffer != null) {
+            buffer.add(message);
             
         } else {
-            messager.printMessage(kind, message);
+            message.print(messager);
         }
     }
     
+    /**
+     * Forwards all buffered messages to the underlying {@code Messager} in the order
+     * in which they were logged. Does nothing if this logger is not buffered.
+     */
+    public void flush() {
+        if (buffer == null) {
+            return;
+        }
+        
+        var counts = new HashMap<Element, Integer>();
+        for (var message : buffer) {
+            if (message.kind == NOTE && message.location != null && counts.merge(message.location, 1, Integer::sum) > notes) {
+                continue;
+            }
+            
+            message.print(messager);
+        }
+        
+        buffer.clear();
+    }
+    
+    /**
+     * Logs all buffered messages using the given logger and discards them from
+     * this logger. Does nothing if this logger is not buffered.
+     * 
+     * @param logger the logger
+     */
+    void drain(Logger logger) {
+        if (buffer == null) {
+            return;
+        }
+        
+        for (var message : buffer) {
+            logger.print(message);
+        }
+        
+        buffer.clear();
+    }
+    
+    /**
+     * Returns the buffered messages, or an empty set if this logger is not buffered.
+     * 
+     * @return the buffered messages
+     */
+    Set<Message> messages() {
+        return buffer == null ? Set.of() : buffer;
+    }
+    
+    /**
+     * Returns the underlying {@code Messager}.
+     * 
+     * @return the underlying {@code Messager}
+     */
+    Messager messager() {
+        return messager;
+    }
+    
     /**
      * Resets whether an error has been logged. 
      */
@@ -154,3 +238,59 @@ public class Logger {
     }
     
 }
+
+/**
+ * A message logged by a {@code Logger}.
+ */
+final class Message {
+    
+    final Kind kind;
+    final @Nullable Element location;
+    final @Nullable AnnotationMirror annotation;
+    final String message;
+    
+    Message(Kind kind, @Nullable Element location, @Nullable AnnotationMirror annotation, String message) {
+        this.kind = kind;
+        this.location = location;
+        this.annotation = annotation;
+        this.message = message;
+    }
+    
+    /**
+     * Prints this message using the given {@code Messager}.
+     * 
+     * @param messager the messager
+     */
+    void print(Messager messager) {
+        if (location == null) {
+            messager.printMessage(kind, message);
+            
+        } else if (annotation == null) {
+            messager.printMessage(kind, message, location);
+            
+        } else {
+            messager.printMessage(kind, message, location, annotation);
+        }
+    }
+    
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        
+        if (!(other instanceof Message)) {
+            return false;
+        }
+        
+        var message = (Message) other;
+        return kind == message.kind && Objects.equals(location, message.location) 
+            && Objects.equals(annotation, message.annotation) && this.message.equals(message.message);
+    }
+    
+    @Override
+    public int hashCode() {
+        return Objects.hash(kind, location, annotation, message);
+    }
+    
+}
@@ -0,0 +1,216 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2026 Karus Labs.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.karuslabs.utilitary;
+
+import java.lang.annotation.Annotation;
+import java.util.*;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.element.*;
+import javax.lang.model.util.*;
+
+/**
+ * An index of the elements in a round of annotation processing that is built in
+ * a single traversal of the round's root elements. Elements are indexed by their 
+ * annotations, including inherited annotations, and by their kinds.
+ * 
+ * Unlike {@link RoundEnvironment#getElementsAnnotatedWith(TypeElement)}, querying 
+ * a {@code RoundIndex} does not rescan the root elements.
+ */
+public final class RoundIndex {
+    
+    /**
+     * Creates a {@code RoundIndex} of the root elements in the given round.
+     * 
+     * @param round the round
+     * @param elements the elements
+     * @return a {@code RoundIndex}
+     */
+    public static RoundIndex of(RoundEnvironment round, Elements elements) {
+        return of(round.getRootElements(), elements);
+    }
+    
+    /**
+     * Creates a {@code RoundIndex} of the given root elements and the elements
+     * enclosed by them.
+     * 
+     * @param roots the root elements
+     * @param elements the elements
+     * @return a {@code RoundIndex}
+     */
+    public static RoundIndex of(Collection<? extends Element> roots, Elements elements) {
+        var index = new RoundIndex();
+        var scanner = new Scanner(index, elements);
+        for (var root : roots) {
+            scanner.scan(root);
+        }
+        
+        return index;
+    }
+    
+    
+    private final Map<String, Set<Element>> annotations = new HashMap<>();
+    private final Map<ElementKind, Set<Element>> kinds = new EnumMap<>(ElementKind.class);
+    private final Map<Element, Set<String>> annotated = new LinkedHashMap<>();
+    
+    private RoundIndex() {}
+    
+    /**
+     * Returns the elements annotated with the given annotation.
+     * 
+     * @param annotation the annotation
+     * @return the annotated elements
+     */
+    public Set<Element> annotated(TypeElement annotation) {
+        return annotated(annotation.getQualifiedName().toString());
+    }
+    
+    /**
+     * Returns the elements annotated with the given annotation.
+     * 
+     * @param annotation the annotation
+     * @return the annotated elements
+     */
+    public Set<Element> annotated(Class<? extends Annotation> annotation) {
+        return annotated(annotation.getCanonicalName());
+    }
+    
+    /**
+     * Returns the elements annotated with the annotation with the given qualified name.
+     * 
+     * @param annotation the qualified name of the annotation
+     * @return the annotated elements
+     */
+    public Set<Element> annotated(String annotation) {
+        var elements = annotations.get(annotation);
+        return elements == null ? Set.of() : Collections.unmodifiableSet(elements);
+    }
+    
+    /**
+     * Returns the elements annotated with at least one of the given annotations,
+     * in the order they were encountered.
+     * 
+     * @param annotations the annotations
+     * @return the annotated elements
+     */
+    public Set<Element> annotatedWithAny(Collection<? extends TypeElement> annotations) {
+        if (annotations.size() == 1) {
+            return annotated(annotations.iterator().next());
+        }
+        
+        var names = new HashSet<String>(annotations.size() * 2);
+        for (var annotation : annotations) {
+            names.add(annotation.getQualifiedName().toString());
+        }
+        
+        var elements = new LinkedHashSet<Element>();
+        for (var entry : annotated.entrySet()) {
+            for (var name : entry.getValue()) {
+                if (names.contains(name)) {
+                    elements.add(entry.getKey());
+                    break;
+                }
+            }
+        }
+        
+        return elements;
+    }
+    
+    /**
+     * Returns the elements of the given kind.
+     * 
+     * @param kind the kind
+     * @return the elements of the given kind
+     */
+    public Set<Element> kind(ElementKind kind) {
+        var elements = kinds.get(kind);
+        return elements == null ? Set.of() : Collections.unmodifiableSet(elements);
+    }
+    
+    
+    /**
+     * A scanner that visits every element enclosed by a root element, including 
+     * type parameters and parameters, but not the elements enclosed by packages
+     * and modules.
+     */
+    static class Scanner extends ElementScanner9<Void, Void> {
+        
+        private final RoundIndex index;
+        private final Elements elements;
+        
+        Scanner(RoundIndex index, Elements elements) {
+            this.index = index;
+            this.elements = elements;
+        }
+        
+        @Override
+        public Void scan(Element element, Void parameter) {
+            index.kinds.computeIfAbsent(element.getKind(), kind -> new LinkedHashSet<>()).add(element);
+            
+            for (var mirror : elements.getAllAnnotationMirrors(element)) {
+                var name = ((TypeElement) mirror.getAnnotationType().asElement()).getQualifiedName().toString();
+                index.annotations.computeIfAbsent(name, key -> new LinkedHashSet<>()).add(element);
+                index.annotated.computeIfAbsent(element, key -> new HashSet<>()).add(name);
+            }
+            
+            return super.scan(element, parameter);
+        }
+        
+        @Override
+        public Void visitModule(ModuleElement module, Void parameter) {
+            return null;
+        }
+        
+        @Override
+        public Void visitPackage(PackageElement pack, Void parameter) {
+            return null;
+        }
+        
+        @Override
+        public Void visitType(TypeElement type, Void parameter) {
+            scan(type.getTypeParameters(), parameter);
+            return super.visitType(type, parameter);
+        }
+        
+        @Override
+        public Void visitExecutable(ExecutableElement executable, Void parameter) {
+            scan(executable.getTypeParameters(), parameter);
+            return super.visitExecutable(executable, parameter);
+        }
+        
+        /**
+         * Scans the elements enclosed by elements unknown to this scanner, i.e. 
+         * record components, which are themselves indexed by {@link #scan(Element, Void)}.
+         * 
+         * @param element the element
+         * @param parameter the parameter
+         * @return {@code null}
+         */
+        @Override
+        public Void visitUnknown(Element element, Void parameter) {
+            return scan(element.getEnclosedElements(), parameter);
+        }
+        
+    }
+    
+}
@@ -29,8 +29,6 @@ import java.util.*;
 import java.util.function.BiConsumer;
 import javax.lang.model.element.*;
 
-import org.checkerframework.checker.nullness.qual.Nullable;
-
 /**
  * Utilities for formatting messages.
  */
@@ -129,61 +127,150 @@ public class Texts {
         return diagnose(summary, snippet.lines, issues);
     }
     
+    /**
+     * Appends a formatted diagnostic message that underlines issues in a message
+     * to the given {@code StringBuilder}. The {@code StringBuilder} may be reused
+     * across diagnostic messages to avoid allocating a new {@code StringBuilder}
+     * for each message.
+     * <br><br>
+     * {@code
+     * <summary>
+     * |
+     * | public static void method()
+     * |                    ~~~~~~ <message>
+     * |                    <issue>
+     * }
+     * 
+     * @param builder the {@code StringBuilder} to which the diagnostic message is appended
+     * @param summary a summary
+     * @param snippet the snippet which contains an issue
+     * @param issues the issues
+     */
+    public static void diagnose(StringBuilder builder, String summary, Snippet snippet, Map<Line, String> issues) {
+        diagnose(builder, summary, snippet.lines, issues);
+    }
+    
     static String diagnose(String summary, Map<Integer, Line> lines, Map<Line, String> issues) {
-        var columns = new HashMap<Integer, TreeMap<Line, String>>();
-        for (var issue : issues.entrySet()) {
-            columns.computeIfAbsent(issue.getKey().column, k -> new TreeMap<>()).put(issue.getKey(), issue.getValue());
-        }
-        
-        var builder = new StringBuilder().append(summary).append(DELIMITER);
-        for (var line : lines.values()) {
-            builder.append(DELIMITER).append(" ".repeat(line.position)).append(line).append(render(columns.get(line.column)));
-        }
-        
-        return builder.append(DELIMITER).toString();
+        var builder = new StringBuilder();
+        diagnose(builder, summary, lines, issues);
+        return builder.toString();
     }
     
-    static String render(@Nullable TreeMap<Line, String> issues) {
-        if (issues == null) {
-            return "";
-        }
+    static void diagnose(StringBuilder builder, String summary, Map<Integer, Line> lines, Map<Line, String> issues) {
+        var sorted = new ArrayList<>(issues.entrySet());
+        sorted.sort(Map.Entry.comparingByKey());
         
-        var underline = new StringBuilder().append(DELIMITER);
-        var lines = new TreeMap<Integer, StringBuilder>();
-        
-        var times = issues.size() - 1;
-        for (var entry : issues.entrySet()) {
-            var line = entry.getKey();
-            underline.append(pad(underline, line)).append(line.length() == 1 ? '^' : "~".repeat(line.length()));
-            
-            if (line.equals(issues.lastKey())) {
-                underline.append(" ").append(entry.getValue());
+        var count = 0;
+        var keys = new Line[sorted.size()];
+        var messages = new String[sorted.size()];
+        for (var entry : sorted) {
+            // Issues at the same column and position replace each other
+            if (count > 0 && keys[count - 1].compareTo(entry.getKey()) == 0) {
+                messages[count - 1] = entry.getValue();
                 
             } else {
-                render(times--, lines, entry.getKey(), entry.getValue());
+                keys[count] = entry.getKey();
+                messages[count++] = entry.getValue();
             }
         }
         
+        builder.append(summary).append(DELIMITER);
         for (var line : lines.values()) {
-            underline.append(line);
+            builder.append(DELIMITER);
+            spaces(builder, line.position);
+            builder.append(line);
+            
+            var start = first(keys, count, line.column);
+            var end = start;
+            while (end < count && keys[end].column == line.column) {
+                end++;
+            }
+            
+            if (start < end) {
+                render(builder, keys, messages, start, end);
+            }
         }
         
-        return underline.toString();
+        builder.append(DELIMITER);
     }
     
-    static void render(int times, Map<Integer, StringBuilder> builders, Line issue, String message) {
-        for (var i = 0; i < times * 2; i++) {
-            var builder = builders.computeIfAbsent(i, k -> new StringBuilder().append(DELIMITER));
-            builder.append(pad(builder, issue)).append("|");
+    /**
+     * Returns the index of the first issue in the given column.
+     * 
+     * @param issues the issues, sorted by column and position
+     * @param count the number of issues
+     * @param column the column
+     * @return the index of the first issue in the column, or the index of the first
+     *         issue in a subsequent column if there are no issues in the column
+     */
+    static int first(Line[] issues, int count, int column) {
+        int low = 0, high = count;
+        while (low < high) {
+            var middle = (low + high) >>> 1;
+            if (issues[middle].column < column) {
+                low = middle + 1;
+                
+            } else {
+                high = middle;
+            }
         }
         
-        var builder = builders.computeIfAbsent(times * 2, k -> new StringBuilder().append(DELIMITER));
-        builder.append(pad(builder, issue)).append(message);
+        return low;
     }
     
+    /**
+     * Renders the underlines and messages of the issues between {@code start}, 
+     * inclusive, and {@code end}, exclusive. The message of the last issue is 
+     * rendered beside its underline. The messages of the other issues are rendered
+     * on subsequent rows, with vertical bars linking each message to its underline.
+     * 
+     * @param builder the {@code StringBuilder}
+     * @param issues the issues, sorted by column and position
+     * @param messages the messages of the issues
+     * @param start the index of the first issue
+     * @param end the index after the last issue
+     */
+    static void render(StringBuilder builder, Line[] issues, String[] messages, int start, int end) {
+        builder.append(DELIMITER);
+        var row = builder.length();
+        for (int i = start; i < end; i++) {
+            var issue = issues[i];
+            spaces(builder, issue.position - (builder.length() - row));
+            if (issue.length() == 1) {
+                builder.append('^');
+                
+            } else {
+                for (int j = 0; j < issue.length(); j++) {
+                    builder.append('~');
+                }
+            }
+        }
+        builder.append(' ').append(messages[end - 1]);
+        
+        var last = end - 1;
+        var rows = (last - start) * 2;
+        for (int i = 0; i <= rows && last > start; i++) {
+            builder.append(DELIMITER);
+            row = builder.length();
+            
+            for (int j = start; j < last; j++) {
+                var times = last - j;
+                if (i < times * 2) {
+                    spaces(builder, issues[j].position - (builder.length() - row));
+                    builder.append('|');
+                    
+                } else if (i == times * 2) {
+                    spaces(builder, issues[j].position - (builder.length() - row));
+                    builder.append(messages[j]);
+                }
+            }
+        }
+    }
     
-    static String pad(StringBuilder builder, Line issue) {
-        return " ".repeat(issue.position - builder.length() + DELIMITER.length());
+    static void spaces(StringBuilder builder, int count) {
+        for (int i = 0; i < count; i++) {
+            builder.append(' ');
+        }
     }
     
     
@@ -24,6 +24,7 @@
 package com.karuslabs.utilitary.snippet;
 
 import java.util.*;
+import java.util.function.Supplier;
 import javax.lang.model.element.AnnotationMirror;
 
 /**
@@ -31,6 +32,18 @@ import javax.lang.model.element.AnnotationMirror;
  */
 public class AnnotationsSnippet extends Snippet {
 
+    /**
+     * Returns a {@code Supplier} which creates a {@code AnnotationsSnippet} for
+     * the given annotations when first called.
+     * 
+     * @param annotations the annotations
+     * @param column the column on which the {@code AnnotationsSnippet} starts at
+     * @return a {@code Supplier} which lazily creates a {@code AnnotationsSnippet}
+     */
+    public static Supplier<AnnotationsSnippet> lazy(List<? extends AnnotationMirror> annotations, int column) {
+        return lazy(() -> of(annotations, column));
+    }
+    
     /**
      * Creates a {@code AnnotationsSnippet} with the given annotations.
      * 
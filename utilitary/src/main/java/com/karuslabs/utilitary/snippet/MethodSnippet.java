@@ -23,17 +23,44 @@
  */
 package com.karuslabs.utilitary.snippet;
 
+import com.karuslabs.utilitary.type.TypeMirrors;
+
 import java.util.*;
+import java.util.function.*;
 import javax.lang.model.element.*;
 import javax.lang.model.type.TypeMirror;
 
-import static com.karuslabs.utilitary.type.TypePrinter.simple;
-
 /**
  * A code snippet that represents a {@code ExecutableElement}.
  */
 public class MethodSnippet extends Snippet {
 
+    /**
+     * Returns a {@code Supplier} which creates a {@code MethodSnippet} for the given 
+     * {@code ExecutableElement} when first called.
+     * 
+     * @param method the method
+     * @param column the column
+     * @return a {@code Supplier} which lazily creates a {@code MethodSnippet}
+     */
+    public static Supplier<MethodSnippet> lazy(ExecutableElement method, int column) {
+        return lazy(() -> of(method, column));
+    }
+    
+    /**
+     * Returns a {@code Supplier} which creates a {@code MethodSnippet} for the given 
+     * {@code ExecutableElement} when first called, rendering types using the names
+     * cached by the given {@code TypeMirrors}.
+     * 
+     * @param method the method
+     * @param column the column
+     * @param types the {@code TypeMirrors} used to render types
+     * @return a {@code Supplier} which lazily creates a {@code MethodSnippet}
+     */
+    public static Supplier<MethodSnippet> lazy(ExecutableElement method, int column, TypeMirrors types) {
+        return lazy(() -> of(method, column, types));
+    }
+    
     /**
      * Creates a {@code MethodSnippet} with the given {@code ExecutableElement}.
      * 
@@ -42,6 +69,23 @@ public class MethodSnippet extends Snippet {
      * @return a {@code VariableSnippet}
      */
     public static MethodSnippet of(ExecutableElement method, int column) {
+        return of(method, column, Part.SIMPLE);
+    }
+    
+    /**
+     * Creates a {@code MethodSnippet} with the given {@code ExecutableElement}, 
+     * rendering types using the names cached by the given {@code TypeMirrors}.
+     * 
+     * @param method the method
+     * @param column the column
+     * @param types the {@code TypeMirrors} used to render types
+     * @return a {@code MethodSnippet}
+     */
+    public static MethodSnippet of(ExecutableElement method, int column, TypeMirrors types) {
+        return of(method, column, types::simple);
+    }
+    
+    static MethodSnippet of(ExecutableElement method, int column, Function<TypeMirror, String> simple) {
         var lines = new TreeMap<Integer, Line>();
         
         var annotations = AnnotationsSnippet.of(method.getAnnotationMirrors(), column);
@@ -53,19 +97,19 @@ public class MethodSnippet extends Snippet {
         var modifiers = Part.modifiers(method.getModifiers(), column, builder.length());
         builder.append(modifiers);
         
-        var typeParameters = Part.typeParameters(method.getTypeParameters(), column, builder.length());
+        var typeParameters = Part.typeParameters(method.getTypeParameters(), column, builder.length(), simple);
         builder.append(typeParameters).append(" ");
         
-        var type = new Line(simple(method.getReturnType()), column, builder.length());
+        var type = new Line(simple.apply(method.getReturnType()), column, builder.length());
         builder.append(type).append(" ");
         
         var name = new Line(method.getSimpleName().toString(), column, builder.length());
         builder.append(name);
         
-        var parameters = Part.parameters(method.getParameters(), column, builder.length());
+        var parameters = Part.parameters(method.getParameters(), column, builder.length(), simple);
         builder.append(parameters);
         
-        var exceptions = Part.exceptions(method.getThrownTypes(), column, builder.length());
+        var exceptions = Part.exceptions(method.getThrownTypes(), column, builder.length(), simple);
         builder.append(exceptions);
         
         lines.put(column, new Line(builder.toString(), column, 0));
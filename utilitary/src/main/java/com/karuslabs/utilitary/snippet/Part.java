@@ -25,12 +25,14 @@ package com.karuslabs.utilitary.snippet;
 
 import com.karuslabs.utilitary.type.TypeMirrors;
 
+import com.karuslabs.utilitary.type.TypePrinter;
+
 import java.util.*;
+import java.util.function.Function;
 import javax.lang.model.element.*;
 import javax.lang.model.type.*;
 
 import static com.karuslabs.utilitary.Texts.*;
-import static com.karuslabs.utilitary.type.TypePrinter.simple;
 import static com.karuslabs.utilitary.snippet.Line.annotation;
 import static javax.lang.model.element.ElementKind.INTERFACE;
 
@@ -41,6 +43,11 @@ import static javax.lang.model.element.ElementKind.INTERFACE;
  * @param <U> the mapped item's line
  */
 public class Part<T, U extends Line> extends Line {
+    
+    /**
+     * Renders the simple name of a type without caching it.
+     */
+    static final Function<TypeMirror, String> SIMPLE = TypePrinter::simple;
 
     /**
      * Creates an {@code Part} with the given annotations.
@@ -93,6 +100,10 @@ public class Part<T, U extends Line> extends Line {
      * @return a {@code Part} that represents the given type parameters
      */
     public static Part<TypeParameterElement, Line> typeParameters(List<? extends TypeParameterElement> parameters, int column, int position) {
+        return typeParameters(parameters, column, position, SIMPLE);
+    }
+    
+    static Part<TypeParameterElement, Line> typeParameters(List<? extends TypeParameterElement> parameters, int column, int position, Function<TypeMirror, String> simple) {
         if (parameters.isEmpty()) {
             return new Part<>(Map.of(), "", column, position);
         }
@@ -101,7 +112,7 @@ public class Part<T, U extends Line> extends Line {
         var builder = new StringBuilder().append("<");
         
         join(builder, parameters, (parameter, sb) -> {
-            var line = new Line(simple(parameter.asType()), column, position + builder.length());
+            var line = new Line(simple.apply(parameter.asType()), column, position + builder.length());
             arguments.put(parameter, line);
             builder.append(line);
         }, ", ");
@@ -118,12 +129,16 @@ public class Part<T, U extends Line> extends Line {
      * @return a {@code Part} that represents the given {@code ExecutableElement}'s parameters.
      */
     public static Part<VariableElement, VariableLine> parameters(List<? extends VariableElement> variables, int column, int position) {
+        return parameters(variables, column, position, SIMPLE);
+    }
+    
+    static Part<VariableElement, VariableLine> parameters(List<? extends VariableElement> variables, int column, int position, Function<TypeMirror, String> simple) {
         var builder = new StringBuilder();
         var values = new LinkedHashMap<VariableElement, VariableLine>();
         
         builder.append('(');
         join(builder, variables, (variable, sb) -> {
-            var value = VariableLine.of(variable, column, position + sb.length());
+            var value = VariableLine.of(variable, true, column, position + sb.length(), simple);
             values.put(variable, value);
             sb.append(value);
         }, ", ");
@@ -141,6 +156,10 @@ public class Part<T, U extends Line> extends Line {
      * @return a {@code Part} that represents the thrown exceptions
      */
     public static Part<TypeMirror, Line> exceptions(List<? extends TypeMirror> types, int column, int position) {
+        return exceptions(types, column, position, SIMPLE);
+    }
+    
+    static Part<TypeMirror, Line> exceptions(List<? extends TypeMirror> types, int column, int position, Function<TypeMirror, String> simple) {
         if (types.isEmpty()) {
             return new Part<>(Map.of(), "", column, position);
         }
@@ -149,7 +168,7 @@ public class Part<T, U extends Line> extends Line {
         var builder = new StringBuilder().append(" throws ");
         
         join(builder, types, (type, sb) -> {
-            var line = new Line(simple(type), column, position + sb.length());
+            var line = new Line(simple.apply(type), column, position + sb.length());
             values.put(type, line);
             sb.append(line);
         }, ", ");
@@ -166,12 +185,16 @@ public class Part<T, U extends Line> extends Line {
      * @return a {@code Part} that represents the given supertype of a {@code TypeElement}
      */
     public static Part<TypeMirror, Line> extend(TypeMirror supertype, int column, int position) {
+        return extend(supertype, column, position, SIMPLE);
+    }
+    
+    static Part<TypeMirror, Line> extend(TypeMirror supertype, int column, int position, Function<TypeMirror, String> simple) {
         if (supertype instanceof NoType || TypeMirrors.is(supertype, Object.class)) {
             return new Part(Map.of(), "", column, position);
         }
         
         var extend = " extends ";
-        var type = new Line(simple(supertype), column, position + extend.length());
+        var type = new Line(simple.apply(supertype), column, position + extend.length());
         
         return new Part<>(Map.of(supertype, type), extend + type, column, position);
     }
@@ -186,6 +209,10 @@ public class Part<T, U extends Line> extends Line {
      * @return a {@code Part} that represents the given implemented interfaces of a {@code TypeElement}
      */
     public static Part<TypeMirror, Line> implement(ElementKind kind, List<? extends TypeMirror> interfaces, int column, int position) {
+        return implement(kind, interfaces, column, position, SIMPLE);
+    }
+    
+    static Part<TypeMirror, Line> implement(ElementKind kind, List<? extends TypeMirror> interfaces, int column, int position, Function<TypeMirror, String> simple) {
         if (interfaces.isEmpty()) {
             return new Part<>(Map.of(), "", column, position);
         }
@@ -194,7 +221,7 @@ public class Part<T, U extends Line> extends Line {
         var builder = new StringBuilder().append(kind == INTERFACE ? " extends " : " implements ");
         
         join(builder, interfaces, (type, sb) -> {
-            var line = new Line(simple(type), column, position + sb.length());
+            var line = new Line(simple.apply(type), column, position + sb.length());
             values.put(type, line);
             sb.append(line);
         }, ", ");
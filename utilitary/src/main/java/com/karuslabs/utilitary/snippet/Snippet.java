@@ -24,14 +24,45 @@
 package com.karuslabs.utilitary.snippet;
 
 import java.util.*;
+import java.util.function.Supplier;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
 
 import static java.util.stream.Collectors.joining;
 
 /**
  * Represents a code snippet. A code snippet may start from any non-negative index.
+ * 
+ * The string representation of a snippet is only created when first required.
+ * Subclasses also provide {@code lazy(...)} methods which defer creating a snippet
+ * until it is first required. This is useful when a snippet is only used to report
+ * a diagnostic message, which is seldom the case.
  */
 public class Snippet implements CharSequence {
     
+    /**
+     * Returns a {@code Supplier} which creates a snippet using the given supplier 
+     * when first called, and returns the same snippet thereafter.
+     * 
+     * @param <T> the type of the snippet
+     * @param supplier the supplier used to create the snippet
+     * @return a {@code Supplier} which lazily creates a snippet
+     */
+    static <T extends Snippet> Supplier<T> lazy(Supplier<T> supplier) {
+        return new Supplier<>() {
+            private @Nullable T snippet;
+            
+            @Override
+            public T get() {
+                if (snippet == null) {
+                    snippet = supplier.get();
+                }
+                
+                return snippet;
+            }
+        };
+    }
+    
     /**
      * The lines in this snippet.
      */
@@ -44,7 +75,7 @@ public class Snippet implements CharSequence {
      * The index of the last line.
      */
     public final int last;
-    private final String value;
+    private @Nullable String value;
     
     /**
      * Creates a {@code Snippet} with the given lines.
@@ -55,22 +86,21 @@ public class Snippet implements CharSequence {
         this.lines = lines;
         this.first = lines.firstKey();
         this.last = lines.lastKey();
-        this.value = lines.values().stream().collect(joining("\n"));
     }
 
     @Override
     public int length() {
-        return value.length();
+        return toString().length();
     }
 
     @Override
     public char charAt(int index) {
-        return value.charAt(index);
+        return toString().charAt(index);
     }
 
     @Override
     public CharSequence subSequence(int start, int end) {
-        return value.subSequence(start, end);
+        return toString().subSequence(start, end);
     }
     
     @Override
@@ -94,6 +124,10 @@ public class Snippet implements CharSequence {
     
     @Override
     public String toString() {
+        if (value == null) {
+            value = lines.values().stream().collect(joining("\n"));
+        }
+        
         return value;
     }
 
@@ -23,7 +23,10 @@
  */
 package com.karuslabs.utilitary.snippet;
 
+import com.karuslabs.utilitary.type.TypeMirrors;
+
 import java.util.*;
+import java.util.function.*;
 import javax.lang.model.element.*;
 import javax.lang.model.type.TypeMirror;
 
@@ -32,6 +35,32 @@ import javax.lang.model.type.TypeMirror;
  */
 public class TypeSnippet extends Snippet {
 
+    /**
+     * Returns a {@code Supplier} which creates a {@code TypeSnippet} for the given 
+     * {@code TypeElement} when first called.
+     * 
+     * @param element the element
+     * @param column the column
+     * @return a {@code Supplier} which lazily creates a {@code TypeSnippet}
+     */
+    public static Supplier<TypeSnippet> lazy(TypeElement element, int column) {
+        return lazy(() -> of(element, column));
+    }
+    
+    /**
+     * Returns a {@code Supplier} which creates a {@code TypeSnippet} for the given 
+     * {@code TypeElement} when first called, rendering types using the names cached
+     * by the given {@code TypeMirrors}.
+     * 
+     * @param element the element
+     * @param column the column
+     * @param types the {@code TypeMirrors} used to render types
+     * @return a {@code Supplier} which lazily creates a {@code TypeSnippet}
+     */
+    public static Supplier<TypeSnippet> lazy(TypeElement element, int column, TypeMirrors types) {
+        return lazy(() -> of(element, column, types));
+    }
+    
     /**
      * Creates a {@code TypeSnippet} for the given {@code TypeElement}.
      * 
@@ -40,6 +69,23 @@ public class TypeSnippet extends Snippet {
      * @return a {@code TypeSnippet}
      */
     public static TypeSnippet of(TypeElement element, int column) {
+        return of(element, column, Part.SIMPLE);
+    }
+    
+    /**
+     * Creates a {@code TypeSnippet} for the given {@code TypeElement}, rendering 
+     * types using the names cached by the given {@code TypeMirrors}.
+     * 
+     * @param element the {@code TypeElement}
+     * @param column the column
+     * @param types the {@code TypeMirrors} used to render types
+     * @return a {@code TypeSnippet}
+     */
+    public static TypeSnippet of(TypeElement element, int column, TypeMirrors types) {
+        return of(element, column, types::simple);
+    }
+    
+    static TypeSnippet of(TypeElement element, int column, Function<TypeMirror, String> simple) {
         var lines = new TreeMap<Integer, Line>();
         
         var annotations = AnnotationsSnippet.of(element.getAnnotationMirrors(), column);
@@ -57,13 +103,13 @@ public class TypeSnippet extends Snippet {
         var name = new Line(element.getSimpleName().toString(), column, builder.length());
         builder.append(name);
         
-        var typeParameters = Part.typeParameters(element.getTypeParameters(), column, builder.length());
+        var typeParameters = Part.typeParameters(element.getTypeParameters(), column, builder.length(), simple);
         builder.append(typeParameters);
         
-        var supertype = Part.extend(element.getSuperclass(), column, builder.length());
+        var supertype = Part.extend(element.getSuperclass(), column, builder.length(), simple);
         builder.append(supertype);
         
-        var interfaces = Part.implement(element.getKind(), element.getInterfaces(), column, builder.length());
+        var interfaces = Part.implement(element.getKind(), element.getInterfaces(), column, builder.length(), simple);
         builder.append(interfaces).append(" {");
         
         lines.put(column, new Line(builder.toString(), column, 0));
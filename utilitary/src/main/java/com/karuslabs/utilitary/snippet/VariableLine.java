@@ -23,10 +23,12 @@
  */
 package com.karuslabs.utilitary.snippet;
 
+import com.karuslabs.utilitary.type.TypeMirrors;
+
 import java.util.List;
+import java.util.function.Function;
 import javax.lang.model.element.*;
-
-import static com.karuslabs.utilitary.type.TypePrinter.simple;
+import javax.lang.model.type.TypeMirror;
 
 /**
  * Represents a {@code VariableElement} with all annotations inlined.
@@ -56,6 +58,25 @@ public class VariableLine extends Line {
      * @return a {@code VariableLine} 
      */
     public static VariableLine of(VariableElement variable, boolean annotated, int column, int position) {
+        return of(variable, annotated, column, position, Part.SIMPLE);
+    }
+    
+    /**
+     * Creates a {@code VariableLine} with the given {@code VariableElement}, rendering
+     * types using the names cached by the given {@code TypeMirrors}.
+     * 
+     * @param variable the variable
+     * @param annotated whether to include the annotations on the given {@code VariableElement}
+     * @param column the column
+     * @param position the position
+     * @param types the {@code TypeMirrors} used to render types
+     * @return a {@code VariableLine} 
+     */
+    public static VariableLine of(VariableElement variable, boolean annotated, int column, int position, TypeMirrors types) {
+        return of(variable, annotated, column, position, types::simple);
+    }
+    
+    static VariableLine of(VariableElement variable, boolean annotated, int column, int position, Function<TypeMirror, String> simple) {
         var builder = new StringBuilder();
         
         var modifiers = Part.modifiers(variable.getModifiers(), column, position);
@@ -64,7 +85,7 @@ public class VariableLine extends Line {
         var annotations = Part.annotations(annotated ? variable.getAnnotationMirrors() : List.of(), column, position + builder.length());
         builder.append(annotations);
         
-        var type = new Line(simple(variable.asType()), column, position + builder.length());
+        var type = new Line(simple.apply(variable.asType()), column, position + builder.length());
         builder.append(type).append(" ");
         
         var name = new Line(variable.getSimpleName().toString(), column, position + builder.length());
@@ -23,14 +23,44 @@
  */
 package com.karuslabs.utilitary.snippet;
 
+import com.karuslabs.utilitary.type.TypeMirrors;
+
 import java.util.*;
+import java.util.function.*;
 import javax.lang.model.element.*;
+import javax.lang.model.type.TypeMirror;
 
 /**
  * A code snippet that represents a {@code VariableElement}.
  */
 public class VariableSnippet extends Snippet {
 
+    /**
+     * Returns a {@code Supplier} which creates a {@code VariableSnippet} for the given 
+     * {@code VariableElement} when first called.
+     * 
+     * @param element the variable
+     * @param column the column
+     * @return a {@code Supplier} which lazily creates a {@code VariableSnippet}
+     */
+    public static Supplier<VariableSnippet> lazy(VariableElement element, int column) {
+        return lazy(() -> of(element, column));
+    }
+    
+    /**
+     * Returns a {@code Supplier} which creates a {@code VariableSnippet} for the given 
+     * {@code VariableElement} when first called, rendering types using the names
+     * cached by the given {@code TypeMirrors}.
+     * 
+     * @param element the variable
+     * @param column the column
+     * @param types the {@code TypeMirrors} used to render types
+     * @return a {@code Supplier} which lazily creates a {@code VariableSnippet}
+     */
+    public static Supplier<VariableSnippet> lazy(VariableElement element, int column, TypeMirrors types) {
+        return lazy(() -> of(element, column, types));
+    }
+    
     /**
      * Creates a {@code VariableSnippet} with the given {@code VariableElement}.
      * 
@@ -39,12 +69,29 @@ public class VariableSnippet extends Snippet {
      * @return a {@code VariableSnippet}
      */
     public static VariableSnippet of(VariableElement element, int column) {
+        return of(element, column, Part.SIMPLE);
+    }
+    
+    /**
+     * Creates a {@code VariableSnippet} with the given {@code VariableElement}, 
+     * rendering types using the names cached by the given {@code TypeMirrors}.
+     * 
+     * @param element the variable
+     * @param column the column
+     * @param types the {@code TypeMirrors} used to render types
+     * @return a {@code VariableSnippet}
+     */
+    public static VariableSnippet of(VariableElement element, int column, TypeMirrors types) {
+        return of(element, column, types::simple);
+    }
+    
+    static VariableSnippet of(VariableElement element, int column, Function<TypeMirror, String> simple) {
         var lines = new TreeMap<Integer, Line>();
         
         var annotations = AnnotationsSnippet.of(element.getAnnotationMirrors(), column);
         lines.putAll(annotations.lines);
         
-        var variable = VariableLine.of(element, false, annotations.last + 1, 0);
+        var variable = VariableLine.of(element, false, annotations.last + 1, 0, simple);
         
         lines.put(variable.column, variable);
         
@@ -0,0 +1,217 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2026 Karus Labs.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.karuslabs.utilitary.type;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.*;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * A memoized resolver of the parameterized ancestors of {@code DeclaredType}s.
+ * Ancestors are resolved in a single breadth-first traversal of a type's supertypes 
+ * in which each ancestor is visited at most once. The ancestors of previously 
+ * resolved supertypes are reused rather than traversed again. Only the ancestors
+ * of types that do not contain type variables are memoized, since type variables 
+ * that share a name are not necessarily the same.
+ * 
+ * An {@code Ancestors} is bound to a single annotation processing environment.
+ * 
+ * @see TypeMirrors#ancestors()
+ */
+public class Ancestors {
+    
+    private final TypeMirrors types;
+    private final Map<Object, Map<TypeElement, DeclaredType>> cache = new ConcurrentHashMap<>();
+    
+    /**
+     * Creates an {@code Ancestors} with the given {@code TypeMirrors}.
+     * 
+     * @param types the {@code TypeMirrors}
+     */
+    public Ancestors(TypeMirrors types) {
+        this.types = types;
+    }
+    
+    /**
+     * Returns the parameterization of the given ancestor in the given type's hierarchy.
+     * 
+     * @param type the type
+     * @param ancestor the ancestor, which may be erased
+     * @return the parameterized ancestor, or {@code null} if the given ancestor is
+     *         not an ancestor of the given type
+     */
+    public @Nullable DeclaredType find(TypeMirror type, TypeMirror ancestor) {
+        var element = types.asTypeElement(ancestor);
+        return element == null || !(type instanceof DeclaredType) ? null : find((DeclaredType) type, element);
+    }
+    
+    /**
+     * Returns the parameterization of the given ancestor in the given type's hierarchy.
+     * 
+     * @param type the type
+     * @param ancestor the ancestor
+     * @return the parameterized ancestor, or {@code null} if the given ancestor is
+     *         not an ancestor of the given type
+     */
+    public @Nullable DeclaredType find(DeclaredType type, TypeElement ancestor) {
+        return all(type).get(ancestor);
+    }
+    
+    /**
+     * Returns the parameterizations of all ancestors of the given type, including 
+     * the type itself, in breadth-first order.
+     * 
+     * @param type the type
+     * @return the parameterized ancestors of the given type, keyed by their elements
+     */
+    public Map<TypeElement, DeclaredType> all(DeclaredType type) {
+        if (!concrete(type)) {
+            return Collections.unmodifiableMap(resolve(type));
+        }
+        
+        var key = key(type);
+        var ancestors = cache.get(key);
+        if (ancestors == null) {
+            ancestors = Collections.unmodifiableMap(resolve(type));
+            cache.putIfAbsent(key, ancestors);
+        }
+        
+        return ancestors;
+    }
+    
+    /**
+     * Resolves the ancestors of the given type in a breadth-first traversal.
+     * 
+     * @param type the type
+     * @return the parameterized ancestors of the given type
+     */
+    Map<TypeElement, DeclaredType> resolve(DeclaredType type) {
+        var ancestors = new LinkedHashMap<TypeElement, DeclaredType>();
+        var queue = new ArrayDeque<DeclaredType>();
+        
+        ancestors.put((TypeElement) type.asElement(), type);
+        queue.add(type);
+        
+        while (!queue.isEmpty()) {
+            for (var supertype : types.directSupertypes(queue.poll())) {
+                if (!(supertype instanceof DeclaredType)) {
+                    continue;
+                }
+                
+                var parent = (DeclaredType) supertype;
+                if (ancestors.putIfAbsent((TypeElement) parent.asElement(), parent) != null) {
+                    continue;
+                }
+                
+                var resolved = concrete(parent) ? cache.get(key(parent)) : null;
+                if (resolved != null) {
+                    for (var entry : resolved.entrySet()) {
+                        ancestors.putIfAbsent(entry.getKey(), entry.getValue());
+                    }
+                    
+                } else {
+                    queue.add(parent);
+                }
+            }
+        }
+        
+        return ancestors;
+    }
+    
+    /**
+     * Returns a key which identifies the given type by the identities of its elements
+     * and its type arguments rather than by its name, since distinct types, i.e. 
+     * local classes, may share a name.
+     * 
+     * @param type the type which does not contain any type variables
+     * @return a key for the given type
+     */
+    static Object key(@Nullable TypeMirror type) {
+        if (type == null) {
+            return TypeKind.NONE;
+        }
+        
+        switch (type.getKind()) {
+            case ARRAY:
+                return List.of(TypeKind.ARRAY, key(((ArrayType) type).getComponentType()));
+                
+            case WILDCARD:
+                var wildcard = (WildcardType) type;
+                return List.of(TypeKind.WILDCARD, key(wildcard.getExtendsBound()), key(wildcard.getSuperBound()));
+                
+            case DECLARED:
+                var declared = (DeclaredType) type;
+                var key = new ArrayList<>(declared.getTypeArguments().size() + 2);
+                key.add(declared.asElement());
+                key.add(key(declared.getEnclosingType()));
+                for (var argument : declared.getTypeArguments()) {
+                    key.add(key(argument));
+                }
+                return key;
+                
+            default:
+                return type.getKind();
+        }
+    }
+    
+    /**
+     * Tests if the given type does not contain any type variables.
+     * 
+     * @param type the type
+     * @return {@code true} if the given type does not contain any type variables
+     */
+    static boolean concrete(@Nullable TypeMirror type) {
+        if (type == null) {
+            return true;
+        }
+        
+        switch (type.getKind()) {
+            case TYPEVAR:
+                return false;
+                
+            case ARRAY:
+                return concrete(((ArrayType) type).getComponentType());
+                
+            case WILDCARD:
+                var wildcard = (WildcardType) type;
+                return concrete(wildcard.getExtendsBound()) && concrete(wildcard.getSuperBound());
+                
+            case DECLARED:
+                var declared = (DeclaredType) type;
+                for (var argument : declared.getTypeArguments()) {
+                    if (!concrete(argument)) {
+                        return false;
+                    }
+                }
+                return concrete(declared.getEnclosingType());
+                
+            default:
+                return true;
+        }
+    }
+    
+}
@@ -25,16 +25,24 @@ package com.karuslabs.utilitary.type;
 
 import com.karuslabs.utilitary.Texts;
 
+import java.lang.ref.*;
 import java.util.*;
 import javax.lang.model.element.*;
 import javax.lang.model.type.TypeMirror;
 import javax.lang.model.util.*;
 
+import org.checkerframework.checker.nullness.qual.Nullable;
+
 import static com.karuslabs.utilitary.type.TypePrinter.simple;
 
 /**
  * An {@code AnnotationValueVisitor} that creates a string representation of the
  * visited annotation.
+ * 
+ * The string representations created by {@link #annotation(AnnotationMirror)} are
+ * cached by the identity of the annotation. The cache holds annotations weakly, 
+ * so that it never retains a compilation environment, and evicts the least recently 
+ * used string representations once it is full.
  */
 public class AnnotationValuePrinter extends SimpleAnnotationValueVisitor9<Void, StringBuilder> {
     
@@ -43,6 +51,9 @@ public class AnnotationValuePrinter extends SimpleAnnotationValueVisitor9<Void,
      */
     public static final AnnotationValuePrinter PRINTER = new AnnotationValuePrinter();
     
+    static final int CAPACITY = 4096;
+    static final Cache RENDERED = new Cache(CAPACITY);
+    
     /**
      * Creates a string representation of the given annotation.
      * 
@@ -50,14 +61,20 @@ public class AnnotationValuePrinter extends SimpleAnnotationValueVisitor9<Void,
      * @return a string representation of the given annotation
      */
     public static String annotation(AnnotationMirror annotation) {
-        var builder = new StringBuilder();
-        annotation(annotation, PRINTER, builder);
-        return builder.toString();
+        var rendered = RENDERED.get(annotation);
+        if (rendered == null) {
+            var builder = new StringBuilder();
+            annotation(annotation, PRINTER, builder);
+            rendered = builder.toString();
+            RENDERED.put(annotation, rendered);
+        }
+        
+        return rendered;
     }
     
     static void annotation(AnnotationMirror annotation, AnnotationValuePrinter printer, StringBuilder builder) {
         builder.append('@');
-        annotation.getAnnotationType().accept(simple(), builder);
+        simple(annotation.getAnnotationType(), builder);
         
         var values = annotation.getElementValues();
         if (values.isEmpty()) {
@@ -65,8 +82,9 @@ public class AnnotationValuePrinter extends SimpleAnnotationValueVisitor9<Void,
         }
         
         builder.append('(');
-        if (values.size() == 1 && values.keySet().toArray(ExecutableElement[]::new)[0].getSimpleName().contentEquals("value")) {
-            values.values().toArray(AnnotationValue[]::new)[0].accept(printer, builder);
+        var first = values.size() == 1 ? values.entrySet().iterator().next() : null;
+        if (first != null && first.getKey().getSimpleName().contentEquals("value")) {
+            first.getValue().accept(printer, builder);
 
         } else {
             Texts.join(builder, values.entrySet(), (mapping, sb) -> {
@@ -110,7 +128,7 @@ public class AnnotationValuePrinter extends SimpleAnnotationValueVisitor9<Void,
     
     @Override
     public Void visitType(TypeMirror type, StringBuilder builder) {
-        type.accept(simple(), builder);
+        simple(type, builder);
         builder.append(".class");
         return null;
     }
@@ -121,4 +139,107 @@ public class AnnotationValuePrinter extends SimpleAnnotationValueVisitor9<Void,
         return null;
     }
     
+    /**
+     * A bounded cache of string representations that holds annotations weakly and 
+     * compares them by identity. The least recently used string representation is 
+     * evicted once the cache is full. Entries of annotations that have been garbage 
+     * collected are removed when the cache is next accessed.
+     */
+    static final class Cache {
+        
+        private final ReferenceQueue<AnnotationMirror> queue = new ReferenceQueue<>();
+        private final Map<Key, String> entries;
+        
+        /**
+         * Creates a {@code Cache} with the given capacity.
+         * 
+         * @param capacity the maximum number of string representations
+         */
+        Cache(int capacity) {
+            entries = new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Key, String> eldest) {
+                    return size() > capacity;
+                }
+            };
+        }
+        
+        /**
+         * Returns the string representation of the given annotation.
+         * 
+         * @param annotation the annotation
+         * @return the string representation, or {@code null} if it is not cached
+         */
+        synchronized @Nullable String get(AnnotationMirror annotation) {
+            purge();
+            return entries.get(new Key(annotation, null));
+        }
+        
+        /**
+         * Caches the string representation of the given annotation.
+         * 
+         * @param annotation the annotation
+         * @param rendered the string representation
+         */
+        synchronized void put(AnnotationMirror annotation, String rendered) {
+            purge();
+            entries.put(new Key(annotation, queue), rendered);
+        }
+        
+        /**
+         * Returns the number of cached string representations.
+         * 
+         * @return the number of cached string representations
+         */
+        synchronized int size() {
+            purge();
+            return entries.size();
+        }
+        
+        /**
+         * Removes the entries of annotations that have been garbage collected.
+         */
+        private void purge() {
+            Reference<? extends AnnotationMirror> reference;
+            while ((reference = queue.poll()) != null) {
+                entries.remove(reference);
+            }
+        }
+        
+    }
+    
+    /**
+     * A weak reference to an annotation that is compared by the identity of the 
+     * annotation.
+     */
+    static final class Key extends WeakReference<AnnotationMirror> {
+        
+        private final int hash;
+        
+        Key(AnnotationMirror annotation, @Nullable ReferenceQueue<AnnotationMirror> queue) {
+            super(annotation, queue);
+            hash = System.identityHashCode(annotation);
+        }
+        
+        @Override
+        public boolean equals(Object other) {
+            if (this == other) {
+                return true;
+            }
+            
+            if (!(other instanceof Key)) {
+                return false;
+            }
+            
+            var annotation = get();
+            return annotation != null && annotation == ((Key) other).get();
+        }
+        
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+        
+    }
+    
 }
@@ -24,6 +24,7 @@
 package com.karuslabs.utilitary.type;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import javax.lang.model.element.*;
 import javax.lang.model.type.*;
 import javax.lang.model.util.*;
@@ -95,6 +96,10 @@ public class TypeMirrors implements Types {
     
     private final Elements elements;
     private final Types types;
+    private final Map<TypeMirror, String> qualified = new ConcurrentHashMap<>();
+    private final Map<TypeMirror, String> simple = new ConcurrentHashMap<>();
+    private final Map<TypeElement, String> names = new ConcurrentHashMap<>();
+    private final Ancestors ancestors;
     
     /**
      * Creates a {@code TypeMirrors} with the given arguments.
@@ -105,6 +110,7 @@ public class TypeMirrors implements Types {
     public TypeMirrors(Elements elements, Types types) {
         this.elements = elements;
         this.types = types;
+        this.ancestors = new Ancestors(this);
     }
     
     /**
@@ -137,6 +143,37 @@ public class TypeMirrors implements Types {
                       .collect(toList());
     }
     
+    /**
+     * Returns a memoized resolver of the ancestors of types in this environment.
+     * 
+     * @return the {@code Ancestors} of this environment
+     */
+    public Ancestors ancestors() {
+        return ancestors;
+    }
+    
+    /**
+     * Returns the fully qualified name of the given type. Names are cached for
+     * the lifetime of this {@code TypeMirrors}.
+     * 
+     * @param type the type
+     * @return the fully qualified name
+     */
+    public String qualified(TypeMirror type) {
+        return qualified.computeIfAbsent(type, key -> TypePrinter.print(key, new QualifiedTypePrinter()));
+    }
+    
+    /**
+     * Returns the simple name of the given type. Names are cached for the lifetime 
+     * of this {@code TypeMirrors}.
+     * 
+     * @param type the type
+     * @return the simple name
+     */
+    public String simple(TypeMirror type) {
+        return simple.computeIfAbsent(type, key -> TypePrinter.print(key, new SimpleTypePrinter(names)));
+    }
+    
     /**
      * Returns a {@code TypeElement} that represents the given type.
      * 
@@ -25,14 +25,21 @@ package com.karuslabs.utilitary.type;
 
 import com.karuslabs.utilitary.Texts;
 
+import java.io.*;
 import java.util.*;
 import javax.lang.model.element.*;
 import javax.lang.model.type.*;
 import javax.lang.model.util.SimpleTypeVisitor9;
 
+import org.checkerframework.checker.nullness.qual.Nullable;
+
 /**
  * A {@code TypeVisitor} that creates a string representation of the visited type's
  * name.
+ * 
+ * String representations are not cached. {@link TypeMirrors#qualified(TypeMirror)}
+ * and {@link TypeMirrors#simple(TypeMirror)} should be used instead to cache string
+ * representations for the lifetime of a compilation environment.
  */
 public abstract class TypePrinter extends SimpleTypeVisitor9<Void, StringBuilder> {
 
@@ -43,9 +50,20 @@ public abstract class TypePrinter extends SimpleTypeVisitor9<Void, StringBuilder
      * @return the fully qualified name
      */
     public static String qualified(TypeMirror type) {
-        var builder = new StringBuilder();
-        type.accept(qualified(), builder);
-        return builder.toString();
+        return print(type, qualified());
+    }
+    
+    /**
+     * Appends the fully qualified name of the given type to the given {@code Appendable}.
+     * The name is rendered directly into the given {@code Appendable} if it is 
+     * a {@code StringBuilder}.
+     * 
+     * @param type the type
+     * @param appendable the {@code Appendable}
+     * @throws UncheckedIOException if an I/O error occurs
+     */
+    public static void qualified(TypeMirror type, Appendable appendable) {
+        print(type, qualified(), appendable);
     }
     
     /**
@@ -65,9 +83,20 @@ public abstract class TypePrinter extends SimpleTypeVisitor9<Void, StringBuilder
      * @return the simple name
      */
     public static String simple(TypeMirror type) {
-        var builder = new StringBuilder();
-        type.accept(simple(), builder);
-        return builder.toString();
+        return print(type, simple());
+    }
+    
+    /**
+     * Appends the simple name of the given type to the given {@code Appendable}.
+     * The name is rendered directly into the given {@code Appendable} if it is 
+     * a {@code StringBuilder}.
+     * 
+     * @param type the type
+     * @param appendable the {@code Appendable}
+     * @throws UncheckedIOException if an I/O error occurs
+     */
+    public static void simple(TypeMirror type, Appendable appendable) {
+        print(type, simple(), appendable);
     }
     
     /**
@@ -80,7 +109,43 @@ public abstract class TypePrinter extends SimpleTypeVisitor9<Void, StringBuilder
         return new SimpleTypePrinter();
     }
     
-    private final Set<TypeMirror> visited = new HashSet<>();
+    /**
+     * Returns a string representation of the given type created by the given printer.
+     * 
+     * @param type the type
+     * @param printer the printer
+     * @return a string representation of the given type
+     */
+    static String print(TypeMirror type, TypePrinter printer) {
+        var builder = new StringBuilder();
+        type.accept(printer, builder);
+        return builder.toString();
+    }
+    
+    /**
+     * Appends a string representation of the given type created by the given printer
+     * to the given {@code Appendable}.
+     * 
+     * @param type the type
+     * @param printer the printer
+     * @param appendable the {@code Appendable}
+     * @throws UncheckedIOException if an I/O error occurs
+     */
+    static void print(TypeMirror type, TypePrinter printer, Appendable appendable) {
+        if (appendable instanceof StringBuilder) {
+            type.accept(printer, (StringBuilder) appendable);
+            return;
+        }
+        
+        try {
+            appendable.append(print(type, printer));
+            
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+    
+    private @Nullable Set<TypeMirror> visited;
     
     @Override
     public Void visitDeclared(DeclaredType type, StringBuilder builder) {
@@ -102,6 +167,10 @@ public abstract class TypePrinter extends SimpleTypeVisitor9<Void, StringBuilder
     @Override
     public Void visitTypeVariable(TypeVariable variable, StringBuilder builder) {
         builder.append(variable.asElement().getSimpleName());
+        if (visited == null) {
+            visited = new HashSet<>();
+        }
+        
         if (!visited.add(variable)) {
             return null;
         }
@@ -164,7 +233,6 @@ public abstract class TypePrinter extends SimpleTypeVisitor9<Void, StringBuilder
     
     @Override
     protected Void defaultAction(TypeMirror type, StringBuilder builder) {
-        builder.setLength(0);
         throw new UnsupportedOperationException("TypePrinter does not support " + type.getKind());
     }
     
@@ -199,14 +267,39 @@ class QualifiedTypePrinter extends TypePrinter {
  * simple name.
  */
 class SimpleTypePrinter extends TypePrinter {
+    
+    private final Map<TypeElement, String> names;
+    
+    /**
+     * Creates a {@code SimpleTypePrinter}.
+     */
+    SimpleTypePrinter() {
+        this(new HashMap<>());
+    }
+    
+    /**
+     * Creates a {@code SimpleTypePrinter} that caches the simple names of type elements
+     * in the given map.
+     * 
+     * @param names the simple names of type elements
+     */
+    SimpleTypePrinter(Map<TypeElement, String> names) {
+        this.names = names;
+    }
+    
     @Override
     protected void rawType(DeclaredType type, StringBuilder builder) {
         if (type.asElement() instanceof TypeElement) {
             var element = (TypeElement) type.asElement();
-            var pack = element.accept(Find.PACKAGE, null).getQualifiedName().toString();
-            var qualified = element.getQualifiedName().toString();
+            var name = names.get(element);
+            if (name == null) {
+                var pack = element.accept(Find.PACKAGE, null).getQualifiedName().toString();
+                var qualified = element.getQualifiedName().toString();
+                name = pack.isEmpty() ? qualified : qualified.substring(pack.length() + 1);
+                names.put(element, name);
+            }
             
-            builder.append(pack.isEmpty() ? qualified : qualified.substring(pack.length() + 1));
+            builder.append(name);
             
         } else {
             throw new IllegalStateException("DeclaredType should be a TypeElement");
@@ -70,15 +70,12 @@ public abstract class Walker<T> extends SimpleTypeVisitor9<TypeMirror, T> {
 
 /**
  * A {@code Walker} that retains all type parameters when finding the ancestor of 
- * the visited type.
+ * the visited type. Ancestors are resolved using the memoized {@link TypeMirrors#ancestors()}.
  */
 class AncestorWalker extends Walker<TypeMirror> {
     
-    private final TypeMirror object;
-    
     AncestorWalker(TypeMirrors types) {
         super(types);
-        object = types.type(Object.class);
     }
     
     @Override
@@ -87,18 +84,8 @@ class AncestorWalker extends Walker<TypeMirror> {
             return type;
         }
         
-        if (types.isSameType(type, object)) {
-            return null;
-        }
-        
-        for (var parent : types.directSupertypes(type)) {
-            var match = parent.accept(this, ancestor);
-            if (match != null) {
-                return match;
-            }
-        }
-        
-        return null;
+        var match = types.ancestors().find(type, ancestor);
+        return match != null && types.isSameType(match, ancestor) ? match : null;
     }
     
 }
@@ -23,14 +23,16 @@
  */
 package com.karuslabs.utilitary;
 
-import java.util.Set;
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
 import javax.annotation.processing.*;
 import javax.lang.model.element.*;
 
 import org.junit.jupiter.api.*;
 import org.mockito.junit.jupiter.*;
 
-import static org.junit.jupiter.api.Assertions.assertFalse;
+import static javax.tools.Diagnostic.Kind.ERROR;
+import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.quality.Strictness.LENIENT;
 import static org.mockito.Mockito.*;
 
@@ -58,5 +60,98 @@ class ElementProcessorTest {
         
         assertFalse(processor.process(Set.of(), round));
     }
+    
+    @Test
+    void process_failure() {
+        var failing = spy(new ElementProcessor() {
+            @Override
+            protected void process(Element element) {
+                logger.error(element, "message");
+                throw new IllegalStateException();
+            }
+        });
+        failing.init(environment);
+        
+        RoundEnvironment round = mock(RoundEnvironment.class);
+        doReturn(Set.of(element)).when(round).getElementsAnnotatedWithAny(any(TypeElement[].class));
+        
+        assertThrows(IllegalStateException.class, () -> failing.process(Set.of(), round));
+        verify(failing).clear();
+        verify(messager).printMessage(ERROR, "message", element);
+    }
+    
+    @Test
+    void process_parallel() {
+        var pool = new ForkJoinPool(4);
+        var threads = Collections.synchronizedSet(new HashSet<Thread>());
+        var parallel = new ElementProcessor(pool) {
+            @Override
+            protected void process(Element element) {
+                threads.add(Thread.currentThread());
+                logger.error(element, element.toString());
+                assertTrue(logger.error());
+            }
+        };
+        parallel.init(environment);
+        
+        var elements = new LinkedHashSet<Element>();
+        for (int i = 0; i < 8; i++) {
+            elements.add(when(mock(Element.class).toString()).thenReturn("element " + i).getMock());
+        }
+        
+        RoundEnvironment round = mock(RoundEnvironment.class);
+        doReturn(elements).when(round).getElementsAnnotatedWithAny(any(TypeElement[].class));
+        
+        assertFalse(parallel.process(Set.of(), round));
+        
+        var order = inOrder(messager);
+        for (var element : elements) {
+            order.verify(messager).printMessage(ERROR, element.toString(), element);
+        }
+        
+        assertTrue(parallel.logger.error());
+        assertFalse(threads.contains(Thread.currentThread()));
+        
+        pool.shutdown();
+    }
+    
+    @Test
+    void process_parallel_failure() {
+        var pool = new ForkJoinPool(4);
+        var processed = Collections.synchronizedSet(new HashSet<Element>());
+        var parallel = new ElementProcessor(pool) {
+            @Override
+            protected void process(Element element) {
+                if (element.toString().equals("element 0") || element.toString().equals("element 1")) {
+                    throw new IllegalStateException(element.toString());
+                }
+                
+                try {
+                    Thread.sleep(20);
+                    
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                processed.add(element);
+            }
+        };
+        parallel.init(environment);
+        var logger = parallel.logger;
+        var elements = parallel.elements;
+        
+        var annotated = new ArrayList<Element>();
+        for (int i = 0; i < 8; i++) {
+            annotated.add(when(mock(Element.class).toString()).thenReturn("element " + i).getMock());
+        }
+        
+        var exception = assertThrows(IllegalStateException.class, () -> parallel.process(pool, annotated));
+        
+        assertEquals(1, exception.getSuppressed().length);
+        assertEquals(6, processed.size());
+        assertSame(logger, parallel.logger);
+        assertSame(elements, parallel.elements);
+        
+        pool.shutdown();
+    }
 
-} 
+}
@@ -0,0 +1,128 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2026 Karus Labs.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.karuslabs.utilitary;
+
+import java.io.*;
+import java.util.Set;
+import javax.annotation.processing.*;
+import javax.lang.model.element.*;
+import javax.tools.FileObject;
+
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.junit.jupiter.*;
+
+import static javax.tools.Diagnostic.Kind.*;
+import static javax.tools.StandardLocation.CLASS_OUTPUT;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.quality.Strictness.LENIENT;
+import static org.mockito.Mockito.*;
+
+@MockitoSettings(strictness = LENIENT)
+class IndexTest {
+    
+    Messager messager = mock(Messager.class);
+    Logger logger = new Logger(messager);
+    Filer filer = mock(Filer.class);
+    FileObject file = mock(FileObject.class);
+    StringWriter writer = new StringWriter();
+    Element element = when(mock(Element.class).toString()).thenReturn("element").getMock();
+    
+    
+    @BeforeEach
+    void before() throws IOException {
+        when(filer.createResource(CLASS_OUTPUT, "", "index")).thenReturn(file);
+        when(filer.getResource(CLASS_OUTPUT, "", "index")).thenReturn(file);
+        when(file.openWriter()).thenReturn(writer);
+        when(file.openReader(true)).then(invocation -> new StringReader(writer.toString()));
+    }
+    
+    @Test
+    void replay() throws IOException {
+        var index = new Index("index");
+        index.record(element, Set.of(new Message(ERROR, element, null, "first\nsecond")));
+        index.save(filer);
+        
+        assertTrue(Index.load(filer, "index").replay(element, logger));
+        verify(messager).printMessage(ERROR, "first\nsecond", element);
+        assertTrue(logger.error());
+    }
+    
+    @Test
+    void replay_changed() throws IOException {
+        var index = new Index("index");
+        index.record(element, Set.of());
+        index.save(filer);
+        
+        when(element.getModifiers()).thenReturn(Set.of(Modifier.PUBLIC));
+        
+        assertFalse(Index.load(filer, "index").replay(element, logger));
+    }
+    
+    @Test
+    void replay_missing() throws IOException {
+        when(file.openReader(true)).thenThrow(FileNotFoundException.class);
+        
+        assertFalse(Index.load(filer, "index").replay(element, logger));
+    }
+    
+    @Test
+    void save_prunes() throws IOException {
+        Element removed = when(mock(Element.class).toString()).thenReturn("removed").getMock();
+        var index = new Index("index");
+        index.record(element, Set.of());
+        index.record(removed, Set.of());
+        index.save(filer);
+        
+        var loaded = Index.load(filer, "index");
+        assertTrue(loaded.replay(element, logger));
+        writer.getBuffer().setLength(0);
+        loaded.save(filer);
+        
+        var reloaded = Index.load(filer, "index");
+        assertTrue(reloaded.replay(element, logger));
+        assertFalse(reloaded.replay(removed, logger));
+    }
+    
+    @Test
+    void key() {
+        TypeElement type = mock(TypeElement.class);
+        Name name = when(mock(Name.class).toString()).thenReturn("a.A").getMock();
+        when(type.getQualifiedName()).thenReturn(name);
+        doReturn(type).when(element).getEnclosingElement();
+        
+        assertEquals("a.A#element", Index.key(element));
+    }
+    
+    @ParameterizedTest
+    @ValueSource(strings = {"", "a\tb", "a\\nb", "a\nb\r\\"})
+    void escape(String value) {
+        var escaped = Index.escape(value);
+        
+        assertFalse(escaped.contains("\t") || escaped.contains("\n"));
+        assertEquals(value, Index.unescape(escaped));
+    }
+    
+}
@@ -98,6 +98,54 @@ class LoggerTest {
         verify(messager).printMessage(WARNING, "second", element);
     }
     
+    @Test
+    void buffered_flush() {
+        var logger = Logger.buffered(messager, 10);
+        logger.error(element, "first");
+        logger.warn(element, annotation, "second");
+        
+        verifyNoInteractions(messager);
+        assertTrue(logger.error());
+        
+        logger.flush();
+        
+        verify(messager).printMessage(ERROR, "first", element);
+        verify(messager).printMessage(WARNING, "second", element, annotation);
+    }
+    
+    @Test
+    void buffered_flush_duplicates() {
+        var logger = Logger.buffered(messager, 10);
+        logger.warn(element, "message");
+        logger.warn(element, "message");
+        logger.note(element, "message");
+        
+        logger.flush();
+        
+        verify(messager, times(1)).printMessage(WARNING, "message", element);
+        verify(messager, times(1)).printMessage(NOTE, "message", element);
+    }
+    
+    @Test
+    void buffered_flush_notes() {
+        var logger = Logger.buffered(messager, 1);
+        logger.note(element, "first");
+        logger.note(element, "second");
+        logger.note(null, "third");
+        
+        logger.flush();
+        
+        verify(messager).printMessage(NOTE, "first", element);
+        verify(messager, never()).printMessage(NOTE, "second", element);
+        verify(messager).printMessage(NOTE, "third");
+    }
+    
+    @Test
+    void flush_unbuffered() {
+        logger.flush();
+        verifyNoInteractions(messager);
+    }
+    
 }
 
 @FunctionalInterface